@@ -29,11 +29,10 @@ import seedu.address.model.tag.ReadOnlyTagTree;
 import seedu.address.model.tag.TagTreeImpl;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.AsyncStorageManager;
 import seedu.address.storage.CalendarStorage;
-import seedu.address.storage.JsonAddressBookStorage;
-import seedu.address.storage.JsonCalendarStorage;
-import seedu.address.storage.JsonRemindersStorage;
-import seedu.address.storage.JsonTagTreeStorage;
+import seedu.address.storage.CommandJournal;
+import seedu.address.storage.DataFileFormat;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.RemindersStorage;
 import seedu.address.storage.Storage;
@@ -51,10 +50,12 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(1, 3, 0, false);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final String JOURNAL_DIRECTORY_NAME = "journal";
 
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected CommandJournal journal;
     protected Model model;
     protected Config config;
 
@@ -69,19 +70,24 @@ public class MainApp extends Application {
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
 
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        CalendarStorage calendarStorage = new JsonCalendarStorage(userPrefs.getCalendarFilePath());
-        TagTreeStorage tagTreeStorage = new JsonTagTreeStorage(userPrefs.getTagTreeFilePath());
-        RemindersStorage remindersStorage = new JsonRemindersStorage(userPrefs.getRemindersFilePath());
+        convertJsonDataFiles(userPrefs);
+        AddressBookStorage addressBookStorage = DataFileFormat.createAddressBookStorage(
+                userPrefs.getAddressBookFilePath());
+        CalendarStorage calendarStorage = DataFileFormat.createCalendarStorage(userPrefs.getCalendarFilePath());
+        TagTreeStorage tagTreeStorage = DataFileFormat.createTagTreeStorage(userPrefs.getTagTreeFilePath());
+        RemindersStorage remindersStorage = DataFileFormat.createRemindersStorage(userPrefs.getRemindersFilePath());
 
-        storage = new StorageManager(addressBookStorage, calendarStorage,
-                userPrefsStorage, tagTreeStorage, remindersStorage);
+        storage = new AsyncStorageManager(new StorageManager(addressBookStorage, calendarStorage,
+                userPrefsStorage, tagTreeStorage, remindersStorage));
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flushStorage, "storage-flush"));
+        journal = new CommandJournal(userPrefs.getAddressBookFilePath().resolveSibling(JOURNAL_DIRECTORY_NAME),
+                storage);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = journal == null ? new LogicManager(model, storage) : new LogicManager(model, storage, journal);
 
         ui = new UiManager(logic);
     }
@@ -101,13 +107,17 @@ public class MainApp extends Application {
      * An empty AddressBook/Calendar/TagTree will be used instead.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        recoverJournal();
 
         ReadOnlyAddressBook initialAddressBook = addressBookFromStorage(storage);
         ReadOnlyCalendar initialCalendar = calendarFromStorage(storage);
         ReadOnlyTagTree initialTagTree = tagTreeFromStorage(storage);
         ReadOnlyReminders initialReminders = remindersFromStorage(storage);
 
-        return new ModelManager(initialAddressBook, initialCalendar, initialTagTree, userPrefs, initialReminders);
+        Model initialModel = new ModelManager(initialAddressBook, initialCalendar, initialTagTree, userPrefs,
+                initialReminders);
+        replayJournal(initialModel);
+        return initialModel;
     }
 
     // private methods below just to split up logic for initModelManager
@@ -220,6 +230,69 @@ public class MainApp extends Application {
         return initialReminders;
     }
 
+    /**
+     * Completes any compaction of the journal that was interrupted, before the data files are read.
+     * If errors occur, the journal is discarded and the data files will be saved after every command instead.
+     */
+    private void recoverJournal() {
+        try {
+            journal.recover();
+        } catch (IOException e) {
+            logger.warning("Problem while recovering the journal. "
+                    + "Will be saving the data files after every command " + StringUtil.getDetails(e));
+            discardJournal();
+        }
+    }
+
+    /**
+     * Converts the json data files into binary data files, for the data files in {@code userPrefs} that are
+     * stored in the binary format but have not been converted yet.
+     * If errors occur, the data files that could not be converted are read as missing binary data files.
+     */
+    private void convertJsonDataFiles(ReadOnlyUserPrefs userPrefs) {
+        try {
+            DataFileFormat.convertJsonDataFiles(userPrefs);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Problem while converting the json data files into binary data files "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Applies the changes journaled since the data files were last written to {@code model}, and opens the journal.
+     * If errors occur, the journal is discarded and the data files will be saved after every command instead.
+     */
+    private void replayJournal(Model model) {
+        if (journal == null) {
+            return;
+        }
+
+        try {
+            journal.replay(model::applyDataChange);
+            journal.open();
+            if (journal.isCompactionDue()) {
+                journal.compact(model.getAddressBook(), model.getCalendar(), model.getTagTree(),
+                        model.getReminders());
+            }
+        } catch (DataConversionException | IOException | IndexOutOfBoundsException e) {
+            logger.warning("Problem while replaying the journal. "
+                    + "Will be saving the data files after every command " + StringUtil.getDetails(e));
+            discardJournal();
+        }
+    }
+
+    /**
+     * Deletes the journal so that it is not replayed on data files that are saved without it.
+     */
+    private void discardJournal() {
+        try {
+            journal.reset();
+        } catch (IOException e) {
+            logger.severe("Failed to discard the journal " + StringUtil.getDetails(e));
+        }
+        journal = null;
+    }
+
     // private methods for initModelManager ends
 
 
@@ -304,6 +377,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Athena ] =============================");
+        if (ui != null) {
+            ui.stop();
+        }
+        closeJournal();
+        flushStorage();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -311,4 +389,34 @@ public class MainApp extends Application {
         }
     }
 
+    /**
+     * Compacts any changes journaled since the data files were last written into them, and closes the journal.
+     */
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+
+        try {
+            if (journal.hasUncompactedChanges()) {
+                journal.compact(model.getAddressBook(), model.getCalendar(), model.getTagTree(),
+                        model.getReminders());
+            }
+            journal.close();
+        } catch (IOException e) {
+            logger.severe("Failed to compact the journal " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Writes any data that has been saved to {@code storage} but not written to the data files yet.
+     */
+    private void flushStorage() {
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data files " + StringUtil.getDetails(e));
+        }
+    }
+
 }
@@ -4,7 +4,10 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +35,24 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns true if no two elements of {@code items} produce equal keys under the same key extractor.
+     * Each of {@code keyExtractors} maps an element to one of its identity keys, so two elements are duplicates
+     * if they agree on at least one kind of key. Runs in expected linear time in the size of {@code items}.
+     */
+    @SafeVarargs
+    public static <T> boolean hasUniqueKeys(Collection<? extends T> items,
+            Function<? super T, ?>... keyExtractors) {
+        requireAllNonNull(items, keyExtractors);
+        for (Function<? super T, ?> keyExtractor : keyExtractors) {
+            Set<Object> seenKeys = new HashSet<>();
+            for (T item : items) {
+                if (!seenKeys.add(keyExtractor.apply(item))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
 }
@@ -3,18 +3,28 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -90,6 +100,77 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Reads the array {@code arrayFieldName} of the JSON object in the given file one element at a time,
+     * passing each element to {@code elementHandler} as soon as it is parsed, so the file is never held in memory.
+     * Other fields of the object are skipped. A missing array field is read as an empty array.
+     * @param filePath cannot be null.
+     * @param elementClass Json array elements have to correspond to the structure in the class given here.
+     * @throws IOException if the file cannot be read or its format is not as expected.
+     * @throws E if {@code elementHandler} rejects an element, in which case the rest of the file is not read.
+     */
+    public static <T, E extends Exception> void readJsonArrayFile(Path filePath, String arrayFieldName,
+            Class<T> elementClass, JsonElementHandler<T, E> elementHandler) throws IOException, E {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elementHandler);
+
+        ObjectReader elementReader = objectMapper.readerFor(elementClass);
+        try (InputStream inputStream = Files.newInputStream(filePath);
+             JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                JsonToken valueToken = parser.nextToken();
+                if (!parser.getCurrentName().equals(arrayFieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                expectToken(parser, valueToken, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elementHandler.handle(elementReader.readValue(parser));
+                }
+            }
+            expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        }
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected)
+            throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * Saves the given elements as the array {@code arrayFieldName} of a JSON object in the specified file,
+     * writing each element as soon as it is taken from {@code elements}, so the file is never held in memory.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param filePath cannot be null.
+     * @param elements Json serializable elements, which can be created lazily as they are taken.
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static void saveJsonArrayFile(Path filePath, String arrayFieldName, Iterator<?> elements)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elements);
+
+        // The generator's pretty printer is kept, and elements are only flushed with the whole file
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (OutputStream outputStream = Files.newOutputStream(filePath);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeFieldName(arrayFieldName);
+            generator.writeStartArray();
+            while (elements.hasNext()) {
+                elementWriter.writeValue(generator, elements.next());
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -110,6 +191,24 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line.
+     * Line breaks within strings are escaped, so the line can be used as a record in a line-based file.
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Handles an element read from a JSON array.
+     * @param <T> The type of the elements handled
+     * @param <E> The type of exception thrown when an element is rejected
+     */
+    @FunctionalInterface
+    public interface JsonElementHandler<T, E extends Exception> {
+        void handle(T element) throws E;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -79,6 +79,20 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns a sort key for {@code s}, which compares to other sort keys with {@link String#compareTo(String)}
+     * in the same order as the strings compare with {@link String#compareToIgnoreCase(String)}.
+     * The case of each character is folded once here, instead of on every comparison.
+     */
+    public static String toCaseInsensitiveSortKey(String s) {
+        requireNonNull(s);
+        char[] chars = s.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
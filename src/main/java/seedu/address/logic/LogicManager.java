@@ -1,7 +1,12 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -13,6 +18,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.general.IntroCommand;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DataChange;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyCalendar;
@@ -20,6 +26,7 @@ import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.ReadOnlyReminders;
 import seedu.address.model.reminder.Reminder;
+import seedu.address.storage.CommandJournal;
 import seedu.address.storage.Storage;
 
 /**
@@ -31,15 +38,35 @@ public class LogicManager implements Logic {
 
     private final Model model;
     private final Storage storage;
+    private final Optional<CommandJournal> journal;
     private final AddressBookParser addressBookParser;
 
+    // Changes made to the model since they were last journaled, only used with a journal.
+    private final List<DataChange> unjournaledChanges = new ArrayList<>();
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The data files are saved after every command.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
+        this.journal = Optional.empty();
+        addressBookParser = new AddressBookParser();
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, {@code Storage} and {@code CommandJournal}.
+     * The changes made by commands are journaled instead, and the data files are only written when the journal is
+     * compacted. {@code journal} must be open.
+     */
+    public LogicManager(Model model, Storage storage, CommandJournal journal) {
+        requireNonNull(journal);
+        this.model = model;
+        this.storage = storage;
+        this.journal = Optional.of(journal);
         addressBookParser = new AddressBookParser();
+        model.addDataChangeListener(unjournaledChanges::add);
     }
 
     @Override
@@ -57,18 +84,65 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } catch (CommandException | RuntimeException e) {
+            // changes made before the command failed are kept in the model, so they are saved too
+            try {
+                save(false);
+            } catch (CommandException | RuntimeException saveException) {
+                e.addSuppressed(saveException);
+            }
+            throw e;
+        }
+        save(commandResult.isExit());
+
+        return commandResult;
+    }
 
+    /**
+     * Saves the changes made to the model, through the journal if there is one.
+     */
+    private void save(boolean isExit) throws CommandException {
         try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveCalendar(model.getCalendar());
-            storage.saveTagTree(model.getTagTree());
-            storage.saveReminders(model.getReminders());
+            if (journal.isPresent()) {
+                journalChanges(journal.get(), isExit);
+            } else {
+                saveData(isExit);
+            }
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+    }
 
-        return commandResult;
+    /**
+     * Saves all data files, and waits for them to be written if the app is exiting.
+     */
+    private void saveData(boolean isExit) throws IOException {
+        storage.saveAddressBook(model.getAddressBook());
+        storage.saveCalendar(model.getCalendar());
+        storage.saveTagTree(model.getTagTree());
+        storage.saveReminders(model.getReminders());
+        if (isExit) {
+            storage.flush();
+        }
+    }
+
+    /**
+     * Journals the changes made to the model since they were last journaled, and compacts the journal into the data
+     * files when it has grown too large or the app is exiting.
+     */
+    private void journalChanges(CommandJournal journal, boolean isExit) throws IOException {
+        journal.recordChanges(unjournaledChanges);
+        unjournaledChanges.clear();
+
+        boolean shouldCompact = isExit ? journal.hasUncompactedChanges() : journal.isCompactionDue();
+        if (shouldCompact) {
+            journal.compact(model.getAddressBook(), model.getCalendar(), model.getTagTree(), model.getReminders());
+        }
+        if (isExit) {
+            journal.flush();
+        }
     }
 
     @Override
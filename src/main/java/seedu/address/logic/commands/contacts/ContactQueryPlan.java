@@ -0,0 +1,135 @@
+package seedu.address.logic.commands.contacts;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.ContactContainsFieldsPredicate;
+import seedu.address.model.person.ContactDetail;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A plan for finding the persons that match a {@code ContactContainsFieldsPredicate}.
+ * Each field of the predicate that can be looked up in an index of the model is looked up, and the persons found are
+ * intersected starting from the most selective index, so that the candidates only get smaller.
+ * The fields that the indices cannot answer exactly are then checked on the candidates only.
+ * If no field can be looked up, every person is checked instead.
+ */
+class ContactQueryPlan {
+
+    private final List<Lookup> lookups;
+    private final List<String> fieldsToCheck;
+    private final int personCount;
+    private final Set<Person> candidates;
+
+    private ContactQueryPlan(List<Lookup> lookups, List<String> fieldsToCheck, int personCount) {
+        this.lookups = lookups;
+        this.fieldsToCheck = fieldsToCheck;
+        this.personCount = personCount;
+        this.candidates = lookups.isEmpty() ? null : intersectLookups(lookups);
+    }
+
+    /**
+     * Plans how to find the persons in {@code model} that match {@code predicate}, looking up the indices of
+     * {@code model} for each field of {@code predicate} that can be looked up.
+     */
+    static ContactQueryPlan of(ContactContainsFieldsPredicate predicate, Model model) {
+        List<Lookup> lookups = new ArrayList<>();
+        List<String> fieldsToCheck = new ArrayList<>();
+
+        List<String> nameKeywords = predicate.getNameKeywords();
+        if (!nameKeywords.isEmpty()) {
+            lookups.add(new Lookup("name postings " + nameKeywords,
+                    model.getPersonsWithNameKeywords(nameKeywords)));
+        }
+        Set<Tag> tags = predicate.getTags();
+        if (!tags.isEmpty()) {
+            lookups.add(new Lookup("tag bitmap " + tags.stream().map(Tag::toString).collect(Collectors.joining(", ")),
+                    model.getPersonsWithAllTags(tags)));
+        }
+        // The name and tag indices are exact, but the trigram indices only narrow down the persons,
+        // so the contact details are always checked, even when there is no index to narrow them down with
+        predicate.getContactDetailKeywords().forEach((contactDetail, keyword) -> {
+            fieldsToCheck.add(getFieldName(contactDetail));
+            model.getPersonsPossiblyWithContactDetail(contactDetail, keyword).ifPresent(persons ->
+                    lookups.add(new Lookup(getFieldName(contactDetail) + " trigrams \"" + keyword + "\"", persons)));
+        });
+
+        lookups.sort(Comparator.comparingInt(lookup -> lookup.personCount));
+        return new ContactQueryPlan(lookups, fieldsToCheck, model.getAddressBook().getPersonList().size());
+    }
+
+    /**
+     * Returns the persons that may match the predicate, which match the name keywords and the tags but must still
+     * have their contact details checked, or an empty {@code Optional} if every person has to be checked.
+     */
+    Optional<Set<Person>> getCandidates() {
+        return Optional.ofNullable(candidates);
+    }
+
+    /**
+     * Returns a description of the indices looked up, in the order they are intersected with the number of persons
+     * found in each and the number of candidates left after each, and of the fields checked on the candidates.
+     */
+    String explain() {
+        StringBuilder explanation = new StringBuilder("Query plan:");
+        if (lookups.isEmpty()) {
+            return explanation.append("\n1. check ").append(String.join(", ", fieldsToCheck))
+                    .append(" of all ").append(personCount).append(" persons").toString();
+        }
+
+        for (int i = 0; i < lookups.size(); i++) {
+            Lookup lookup = lookups.get(i);
+            explanation.append("\n").append(i + 1).append(". ").append(i == 0 ? "look up " : "intersect ")
+                    .append(lookup.description).append(": ").append(lookup.personCount).append(" persons, ")
+                    .append(lookup.candidateCount).append(" candidates left");
+        }
+        if (!fieldsToCheck.isEmpty()) {
+            explanation.append("\n").append(lookups.size() + 1).append(". check ")
+                    .append(String.join(", ", fieldsToCheck)).append(" of ").append(candidates.size())
+                    .append(" candidates");
+        }
+        return explanation.toString();
+    }
+
+    /**
+     * Intersects the persons found in {@code lookups} in order, recording the number of candidates left after each.
+     * The persons of the first lookup are modified, as each lookup returns a new set.
+     */
+    private static Set<Person> intersectLookups(List<Lookup> lookups) {
+        Set<Person> intersection = lookups.get(0).persons;
+        for (Lookup lookup : lookups) {
+            if (lookup.persons != intersection && !intersection.isEmpty()) {
+                intersection.retainAll(lookup.persons);
+            }
+            lookup.candidateCount = intersection.size();
+        }
+        return intersection;
+    }
+
+    private static String getFieldName(ContactDetail contactDetail) {
+        return contactDetail.name().toLowerCase();
+    }
+
+    /**
+     * The persons found by looking up one field of the predicate in an index.
+     */
+    private static class Lookup {
+        private final String description;
+        private final Set<Person> persons;
+        private final int personCount;
+        private int candidateCount;
+
+        Lookup(String description, Set<Person> persons) {
+            this.description = description;
+            this.persons = persons;
+            this.personCount = persons.size();
+        }
+    }
+
+}
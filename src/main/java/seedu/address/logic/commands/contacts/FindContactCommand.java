@@ -3,17 +3,25 @@ package seedu.address.logic.commands.contacts;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPLAIN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.booleaninput.BooleanInput;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandType;
 import seedu.address.logic.commands.CommandWord;
 import seedu.address.model.Model;
 import seedu.address.model.person.ContactContainsFieldsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.PrecomputedPredicate;
 
 /**
  * Finds and lists all persons in Athena whose name contains any of the argument keywords.
@@ -34,34 +42,61 @@ public class FindContactCommand extends Command {
             + "[" + PREFIX_PHONE + "PHONE KEYWORD]\n"
             + "[" + PREFIX_EMAIL + "EMAIL KEYWORD]\n"
             + "[" + PREFIX_ADDRESS + "ADDRESS KEYWORD]\n"
-            + "[" + PREFIX_TAG + "TAG]...\n\n"
+            + "[" + PREFIX_TAG + "TAG]...\n"
+            + "[" + PREFIX_EXPLAIN + "BOOLEAN] shows how the contacts were found if true\n\n"
             + "Example: " + COMMAND_WORD + " n/alice bob charlie e/hotmail t/CS2103";
 
     private final ContactContainsFieldsPredicate predicate;
+    private final BooleanInput isExplain;
 
     public FindContactCommand(ContactContainsFieldsPredicate predicate) {
+        this(predicate, BooleanInput.isFalse());
+    }
+
+    /**
+     * Creates a FindContactCommand to find the persons matching {@code predicate}, which also shows how they were
+     * found if {@code isExplain} is true.
+     */
+    public FindContactCommand(ContactContainsFieldsPredicate predicate, BooleanInput isExplain) {
         this.predicate = predicate;
+        this.isExplain = isExplain;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getSortedFilteredPersonList().size()));
+        ContactQueryPlan plan = ContactQueryPlan.of(predicate, model);
+        Optional<Set<Person>> candidates = plan.getCandidates();
+        if (candidates.isEmpty()) {
+            model.updateFilteredPersonList(predicate);
+        } else {
+            // the candidates match the name keywords and the tags, so only their contact details are checked
+            Set<Person> matchingPersons = candidates.get().stream()
+                    .filter(predicate::testContactDetails)
+                    .collect(Collectors.toSet());
+            PrecomputedPredicate<Person> filter = PrecomputedPredicate.of(predicate, matchingPersons);
+            model.updateFilteredPersonList(filter);
+            filter.stopUsingResults();
+        }
+
+        String message =
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getSortedFilteredPersonList().size());
+        if (isExplain.getBooleanValue()) {
+            message += "\n" + plan.explain();
+        }
+        return new CommandResult(message);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindContactCommand // instanceof handles nulls
-                && predicate.equals(((FindContactCommand) other).predicate)); // state check
+                && predicate.equals(((FindContactCommand) other).predicate) // state check
+                && isExplain.equals(((FindContactCommand) other).isExplain));
     }
 
     public ContactContainsFieldsPredicate getPredicate() {
         return predicate;
     }
 
-
-
 }
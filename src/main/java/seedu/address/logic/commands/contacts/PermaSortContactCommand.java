@@ -2,6 +2,10 @@ package seedu.address.logic.commands.contacts;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
@@ -10,6 +14,7 @@ import seedu.address.logic.commands.CommandWord;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.comparators.PersonComparator;
 import seedu.address.model.Model;
+import seedu.address.model.person.PersonSortKey;
 
 
 /**
@@ -27,33 +32,52 @@ public class PermaSortContactCommand extends Command {
             + "by the index command entered:\n\n"
             + "1: sorts by lexicographical order of their names\n"
             + "2: sorts by lexicographical order of their address\n"
-            + "3: sorts by lexicographical order of their email\n\n"
-            + "Parameters:\nINDEX (must be between 1 and 3)\n\n"
-            + "Example: " + COMMAND_WORD + " " + COMMAND_TYPE + " 1 ";
+            + "3: sorts by lexicographical order of their email\n"
+            + "Several indexes separated by commas sort by each field in turn, "
+            + "using the later fields only for contacts that are equal in the earlier ones.\n\n"
+            + "Parameters:\nINDEX[,MORE_INDEXES]... (each must be between 1 and 3)\n\n"
+            + "Example: " + COMMAND_WORD + " " + COMMAND_TYPE + " 1\n"
+            + "Example: " + COMMAND_WORD + " " + COMMAND_TYPE + " 2,1";
 
     public static final String MESSAGE_INVALID_INDEX = "Invalid index entered, "
             + "refer to below for the command's proper usage: "
             + MESSAGE_USAGE;
 
-    private final Index index;
+    private final List<Index> indexes;
 
     /**
      * @param index the order in which to sort the address book
      */
     public PermaSortContactCommand(Index index) {
-        requireAllNonNull(index);
-        this.index = index;
+        this(List.of(index));
+    }
+
+    /**
+     * @param indexes the orders in which to sort the address book, where each later order only applies to
+     *                persons that are equal in all the earlier orders
+     */
+    public PermaSortContactCommand(List<Index> indexes) {
+        requireAllNonNull(indexes);
+        this.indexes = indexes;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        if (index.getOneBased() < 0 || index.getOneBased() > 3) {
-            throw new CommandException(PermaSortContactCommand.MESSAGE_INVALID_INDEX);
+        List<PersonSortKey> sortKeys = new ArrayList<>();
+        for (Index index : indexes) {
+            if (index.getOneBased() < 0 || index.getOneBased() > 3) {
+                throw new CommandException(PermaSortContactCommand.MESSAGE_INVALID_INDEX);
+            }
+            sortKeys.add(PersonComparator.chooseSortKey(index));
         }
-        model.permaSortContacts(PersonComparator.chooseComparator(index));
+        model.permaSortContacts(sortKeys);
 
-        return new CommandResult(indexMessage(index));
+        if (indexes.size() == 1) {
+            return new CommandResult(indexMessage(indexes.get(0)));
+        }
+        return new CommandResult("Sorted by " + sortKeys.stream().map(PersonSortKey::getFieldName)
+                .collect(Collectors.joining(", then ")) + " in alphabetical order");
     }
 
     private void requireNonNull(Model model) {
@@ -92,6 +116,6 @@ public class PermaSortContactCommand extends Command {
 
         // state check
         PermaSortContactCommand e = (PermaSortContactCommand) other;
-        return index.equals(e.index);
+        return indexes.equals(e.indexes);
     }
 }
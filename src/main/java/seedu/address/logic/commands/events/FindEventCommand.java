@@ -1,6 +1,8 @@
 package seedu.address.logic.commands.events;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.Command;
@@ -9,9 +11,12 @@ import seedu.address.logic.commands.CommandType;
 import seedu.address.logic.commands.CommandWord;
 import seedu.address.model.Model;
 import seedu.address.model.event.DescriptionContainsKeywordsPredicate;
+import seedu.address.model.event.Event;
+import seedu.address.model.util.PrecomputedPredicate;
 
 /**
- * Finds and lists all events in calendar that have their descriptions containing any of the argument keywords.
+ * Finds and lists all events in calendar that have their descriptions containing any of the argument keywords,
+ * optionally only within a time range.
  * Keyword matching is case insensitive.
  */
 public class FindEventCommand extends Command {
@@ -23,8 +28,9 @@ public class FindEventCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + " " + COMMAND_TYPE
             + ": Finds all events that contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n\n"
-            + "Parameters:\nKEYWORD [MORE_KEYWORDS]...\n\n"
-            + "Example: " + COMMAND_WORD + " " + COMMAND_TYPE + " " + "meeting";
+            + "Parameters:\nKEYWORD [MORE_KEYWORDS]... [" + PREFIX_FROM + "DATE_TIME] [" + PREFIX_TO + "DATE_TIME]\n\n"
+            + "Example: " + COMMAND_WORD + " " + COMMAND_TYPE + " " + "meeting "
+            + PREFIX_FROM + "01-01-2020 00:00 " + PREFIX_TO + "31-03-2020 23:59";
 
     private final DescriptionContainsKeywordsPredicate predicate;
 
@@ -35,7 +41,11 @@ public class FindEventCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredEventList(predicate);
+        // only the events found in the description and time indices are matched while the current events are filtered
+        PrecomputedPredicate<Event> filter = PrecomputedPredicate.of(predicate, model.getEventsWithDescriptionKeywords(
+                predicate.getKeywords(), predicate.getStart(), predicate.getEnd()));
+        model.updateFilteredEventList(filter);
+        filter.stopUsingResults();
         return new CommandResult(
                 String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getSortedFilteredEventList().size()));
     }
@@ -15,7 +15,7 @@ public class EventComparator {
     private static final Comparator<Event> DESCRIPTION_COMPARATOR = new Comparator<Event>() {
         @Override
         public int compare(Event o1, Event o2) {
-            return o1.getDescription().fullDescription.compareToIgnoreCase(o2.getDescription().fullDescription);
+            return o1.getDescription().getSortKey().compareTo(o2.getDescription().getSortKey());
         }
     };
 
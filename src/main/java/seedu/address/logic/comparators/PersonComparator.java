@@ -5,6 +5,7 @@ import java.util.Comparator;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortKey;
 
 
 public class PersonComparator {
@@ -12,21 +13,21 @@ public class PersonComparator {
     private static final Comparator<Person> NAME_COMPARATOR = new Comparator<Person>() {
         @Override
         public int compare(Person o1, Person o2) {
-            return o1.getName().fullName.compareToIgnoreCase(o2.getName().fullName);
+            return o1.getName().getSortKey().compareTo(o2.getName().getSortKey());
         }
     };
 
     private static final Comparator<Person> ADDRESS_COMPARATOR = new Comparator<Person>() {
         @Override
         public int compare(Person o1, Person o2) {
-            return o1.getAddress().value.compareToIgnoreCase(o2.getAddress().value);
+            return o1.getAddress().getSortKey().compareTo(o2.getAddress().getSortKey());
         }
     };
 
     private static final Comparator<Person> EMAIL_COMPARATOR = new Comparator<Person>() {
         @Override
         public int compare(Person o1, Person o2) {
-            return o1.getEmail().value.compareToIgnoreCase(o2.getEmail().value);
+            return o1.getEmail().getSortKey().compareTo(o2.getEmail().getSortKey());
         }
     };
 
@@ -46,4 +47,21 @@ public class PersonComparator {
             throw new CommandException("Index should be between 1 to 3");
         }
     }
+
+    /**
+     * Returns the field whose keys the address book is permanently sorted by
+     */
+    public static PersonSortKey chooseSortKey(Index index) throws CommandException {
+        int input = index.getOneBased();
+        switch (input) {
+        case 1:
+            return PersonSortKey.NAME;
+        case 2:
+            return PersonSortKey.ADDRESS;
+        case 3:
+            return PersonSortKey.EMAIL;
+        default:
+            throw new CommandException("Index should be between 1 to 3");
+        }
+    }
 }
@@ -21,6 +21,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_ADD_PERSON = new Prefix("ap/");
     public static final Prefix PREFIX_REMOVE_PERSON = new Prefix("rp/");
     public static final Prefix PREFIX_SUPERTAG_ONLY = new Prefix("st/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_EXPLAIN = new Prefix("x/");
 
     /* Symbol definitions */
     public static final String SYMBOL_WILDCARD = "*";
@@ -143,10 +143,11 @@ public class ParserUtil {
     public static Tag parseTag(String tag) throws ParseException {
         requireNonNull(tag);
         String trimmedTag = tag.trim();
-        if (!Tag.isValidTagName(trimmedTag)) {
+        try {
+            return Tag.of(trimmedTag);
+        } catch (IllegalArgumentException e) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
     }
 
     /**
@@ -159,10 +160,11 @@ public class ParserUtil {
     public static Tag parseTag(String tag, boolean canBeWildcard) throws ParseException {
         requireNonNull(tag);
         String trimmedTag = tag.trim();
-        if (!Tag.isValidTagName(trimmedTag, canBeWildcard)) {
+        try {
+            return Tag.of(trimmedTag, canBeWildcard);
+        } catch (IllegalArgumentException e) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag, canBeWildcard);
     }
 
     /**
@@ -214,10 +216,7 @@ public class ParserUtil {
     public static Time parseTime(String time) throws ParseException {
         requireNonNull(time);
         String trimmedTime = time.trim();
-        if (!Time.isValidTime(trimmedTime)) {
-            throw new ParseException(Time.MESSAGE_CONSTRAINTS);
-        }
-        return new Time(trimmedTime);
+        return Time.tryParse(trimmedTime).orElseThrow(() -> new ParseException(Time.MESSAGE_CONSTRAINTS));
     }
 
     /**
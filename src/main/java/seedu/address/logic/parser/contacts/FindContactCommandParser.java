@@ -3,6 +3,7 @@ package seedu.address.logic.parser.contacts;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPLAIN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
@@ -10,10 +11,12 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import java.util.Arrays;
 import java.util.List;
 
+import seedu.address.commons.core.booleaninput.BooleanInput;
 import seedu.address.logic.commands.contacts.FindContactCommand;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.ContactContainsFieldsPredicate;
 import seedu.address.model.tag.Tag;
@@ -31,7 +34,7 @@ public class FindContactCommandParser implements Parser<FindContactCommand> {
     public FindContactCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE,
-                        PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+                        PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG, PREFIX_EXPLAIN);
 
         ContactContainsFieldsPredicate findPredicate = new ContactContainsFieldsPredicate();
         if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
@@ -57,7 +60,14 @@ public class FindContactCommandParser implements Parser<FindContactCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindContactCommand.MESSAGE_USAGE));
         }
 
-        return new FindContactCommand(findPredicate);
+        BooleanInput isExplain;
+        if (argMultimap.getValue(PREFIX_EXPLAIN).isPresent()) {
+            isExplain = ParserUtil.parseBooleanInput(argMultimap.getValue(PREFIX_EXPLAIN).get());
+        } else {
+            isExplain = BooleanInput.isFalse();
+        }
+
+        return new FindContactCommand(findPredicate, isExplain);
     }
 
     /**
@@ -2,6 +2,9 @@ package seedu.address.logic.parser.contacts;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.contacts.PermaSortContactCommand;
@@ -21,8 +24,11 @@ public class PermaSortContactCommandParser implements Parser<PermaSortContactCom
     public PermaSortContactCommand parse(String args) throws ParseException {
 
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new PermaSortContactCommand(index);
+            List<Index> indexes = new ArrayList<>();
+            for (String index : args.split(",")) {
+                indexes.add(ParserUtil.parseIndex(index));
+            }
+            return new PermaSortContactCommand(indexes);
         } catch (IllegalValueException ive) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     PermaSortContactCommand.MESSAGE_USAGE), ive);
@@ -1,11 +1,17 @@
 package seedu.address.logic.parser.events;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 
 import seedu.address.logic.commands.events.FindEventCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.event.DescriptionContainsKeywordsPredicate;
 
@@ -22,7 +28,8 @@ public class FindEventCommandParser implements Parser<FindEventCommand> {
     public FindEventCommand parse(String args) throws ParseException {
 
         DescriptionContainsKeywordsPredicate findPredicate = new DescriptionContainsKeywordsPredicate();
-        String trimmedArgs = args.trim();
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+        String trimmedArgs = argMultimap.getPreamble().trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindEventCommand.MESSAGE_USAGE));
@@ -32,6 +39,14 @@ public class FindEventCommandParser implements Parser<FindEventCommand> {
 
         findPredicate.setKeywords(Arrays.asList(eventKeywords));
 
+        LocalDateTime start = argMultimap.getValue(PREFIX_FROM).isPresent()
+                ? ParserUtil.parseTime(argMultimap.getValue(PREFIX_FROM).get()).getTime()
+                : LocalDateTime.MIN;
+        LocalDateTime end = argMultimap.getValue(PREFIX_TO).isPresent()
+                ? ParserUtil.parseTime(argMultimap.getValue(PREFIX_TO).get()).getTime()
+                : LocalDateTime.MAX;
+        findPredicate.setTimeRange(start, end);
+
         return new FindEventCommand(findPredicate);
     }
 
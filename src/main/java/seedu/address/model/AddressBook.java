@@ -2,26 +2,40 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.ContactDetail;
+import seedu.address.model.person.NameTokenIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortKey;
+import seedu.address.model.person.TrigramIndex;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagManager;
 import seedu.address.model.tag.TagManagerImpl;
+import seedu.address.model.util.ListEdit;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
  */
-public class AddressBook implements ReadOnlyAddressBook {
+public class AddressBook implements ReadOnlyAddressBook, ChangeTrackable {
 
     private final UniquePersonList persons;
     private final TagManager tagManager;
+    private final NameTokenIndex nameTokenIndex;
+    private final Map<ContactDetail, TrigramIndex> contactDetailIndices;
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -33,9 +47,24 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         tagManager = new TagManagerImpl();
+        nameTokenIndex = new NameTokenIndex();
+        contactDetailIndices = new EnumMap<>(ContactDetail.class);
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> modificationCount++);
     }
 
-    public AddressBook() {}
+    public AddressBook() {
+        this(EnumSet.allOf(ContactDetail.class));
+    }
+
+    /**
+     * Creates an empty AddressBook that only indexes the substrings of {@code indexedContactDetails}.
+     * Persons are found by substrings of the other contact details by checking every person.
+     */
+    public AddressBook(Set<ContactDetail> indexedContactDetails) {
+        for (ContactDetail contactDetail : indexedContactDetails) {
+            contactDetailIndices.put(contactDetail, new TrigramIndex(contactDetail));
+        }
+    }
 
     /**
      * Creates an AddressBook using the Persons in the {@code toBeCopied}
@@ -45,6 +74,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates an AddressBook using the Persons in the {@code toBeCopied}, which only indexes the substrings of
+     * {@code indexedContactDetails}.
+     */
+    public AddressBook(ReadOnlyAddressBook toBeCopied, Set<ContactDetail> indexedContactDetails) {
+        this(indexedContactDetails);
+        resetData(toBeCopied);
+    }
+
     //// list overwrite operations
 
     /**
@@ -54,6 +92,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
         setTagManager(persons);
+        nameTokenIndex.setPersons(persons);
+        contactDetailIndices.values().forEach(index -> index.setPersons(persons));
     }
 
     /**
@@ -74,6 +114,35 @@ public class AddressBook implements ReadOnlyAddressBook {
         setTagManager(newData.getPersonList());
     }
 
+    /**
+     * Starts a batch of changes to the address book, which are published to listeners as one change when it ends.
+     */
+    public void beginBatch() {
+        persons.beginBatch();
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        persons.endBatch();
+    }
+
+    /**
+     * Applies {@code edit}, which must have been made to the person list of an address book equal to this one.
+     */
+    public void applyEdit(ListEdit<Person> edit) {
+        persons.applyEdit(edit).forEach(this::removeFromIndices);
+        edit.getAdded().forEach(this::addToIndices);
+    }
+
+    /**
+     * Adds a listener that is notified of every edit made to the person list, as soon as it is made.
+     */
+    public void addEditListener(Consumer<? super ListEdit<Person>> listener) {
+        persons.addEditListener(listener);
+    }
+
     //// person-level operations
 
     /**
@@ -98,7 +167,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
-        tagManager.addNewPersonTags(p);
+        addToIndices(p);
     }
 
     /**
@@ -139,6 +208,12 @@ public class AddressBook implements ReadOnlyAddressBook {
 
         persons.setPerson(target, editedPerson);
         tagManager.updateExistingPersonTags(target, editedPerson);
+        nameTokenIndex.removePerson(target);
+        nameTokenIndex.addPerson(editedPerson);
+        for (TrigramIndex index : contactDetailIndices.values()) {
+            index.removePerson(target);
+            index.addPerson(editedPerson);
+        }
     }
 
     /**
@@ -147,26 +222,74 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
-        tagManager.deletePersonTags(key);
+        removeFromIndices(key);
+    }
+
+    private void addToIndices(Person person) {
+        tagManager.addNewPersonTags(person);
+        nameTokenIndex.addPerson(person);
+        contactDetailIndices.values().forEach(index -> index.addPerson(person));
+    }
+
+    private void removeFromIndices(Person person) {
+        tagManager.deletePersonTags(person);
+        nameTokenIndex.removePerson(person);
+        contactDetailIndices.values().forEach(index -> index.removePerson(person));
     }
 
     //// util methods
 
     /**
-     * Sorts the address book's internal list according to the given comparator
+     * Sorts the address book's internal list by the keys of {@code sortKeys}, which are compared in order.
      */
-    public void sortPerson(Comparator<Person> c) {
-        persons.sortPersons(c);
+    public void sortPersons(List<PersonSortKey> sortKeys) {
+        persons.sortPersons(sortKeys);
     }
 
     public Set<Person> getPersonsWithTag(Tag tag) {
         return tagManager.getPersonsUnderTag(tag);
     }
 
+    /**
+     * Returns the persons that have every tag in {@code tags}, which must not be empty.
+     */
+    public Set<Person> getPersonsWithAllTags(Collection<Tag> tags) {
+        return tagManager.getPersonsWithAllTags(tags);
+    }
+
     public Set<Tag> getTags() {
         return tagManager.getTags();
     }
 
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a full word, ignoring case.
+     */
+    public Set<Person> getPersonsWithNameKeywords(Collection<String> keywords) {
+        return nameTokenIndex.getPersonsWithAnyKeyword(keywords);
+    }
+
+    /**
+     * Returns the persons whose {@code contactDetail} may contain {@code keyword}, ignoring case, or an empty
+     * {@code Optional} if {@code contactDetail} is not indexed or {@code keyword} is too short to be looked up.
+     *
+     * @see TrigramIndex#getPersonsPossiblyContaining(String)
+     */
+    public Optional<Set<Person>> getPersonsPossiblyWithContactDetail(ContactDetail contactDetail, String keyword) {
+        TrigramIndex index = contactDetailIndices.get(contactDetail);
+        if (index == null) {
+            return Optional.empty();
+        }
+        return index.getPersonsPossiblyContaining(keyword);
+    }
+
+    /**
+     * Returns an estimate of the number of bytes of heap used to look up substrings of {@code contactDetail}.
+     */
+    public long getContactDetailIndexMemoryUsage(ContactDetail contactDetail) {
+        TrigramIndex index = contactDetailIndices.get(contactDetail);
+        return index == null ? 0 : index.estimateMemoryUsage();
+    }
+
     @Override
     public String toString() {
         return persons.asUnmodifiableObservableList().size() + " persons";
@@ -178,6 +301,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
 
     @Override
     public boolean equals(Object other) {
@@ -2,21 +2,29 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.UniqueEventList;
 import seedu.address.model.event.association.FauxPerson;
 import seedu.address.model.person.Person;
+import seedu.address.model.util.ListEdit;
 
 /**
  * Wraps all data at the calendar level
  * Duplicates are not allowed (by .isSameEvent comparison)
  */
-public class Calendar implements ReadOnlyCalendar {
+public class Calendar implements ReadOnlyCalendar, ChangeTrackable {
 
     private final UniqueEventList events;
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -27,6 +35,7 @@ public class Calendar implements ReadOnlyCalendar {
      */
     {
         events = new UniqueEventList();
+        events.asUnmodifiableObservableList().addListener((ListChangeListener<Event>) change -> modificationCount++);
     }
 
     public Calendar() {}
@@ -58,6 +67,34 @@ public class Calendar implements ReadOnlyCalendar {
         setEvents(newData.getEventList());
     }
 
+    /**
+     * Starts a batch of changes to the calendar, which are published to listeners as one change when it ends.
+     */
+    public void beginBatch() {
+        events.beginBatch();
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        events.endBatch();
+    }
+
+    /**
+     * Applies {@code edit}, which must have been made to the event list of a calendar equal to this one.
+     */
+    public void applyEdit(ListEdit<Event> edit) {
+        events.applyEdit(edit);
+    }
+
+    /**
+     * Adds a listener that is notified of every edit made to the event list, as soon as it is made.
+     */
+    public void addEditListener(Consumer<? super ListEdit<Event>> listener) {
+        events.addEditListener(listener);
+    }
+
     /// event-level operations
 
     /**
@@ -113,6 +150,14 @@ public class Calendar implements ReadOnlyCalendar {
         events.deleteFauxPerson(new FauxPerson(person));
     }
 
+    /**
+     * Removes every person in {@code persons} from being associated with any event in this {@code Calendar}.
+     */
+    public void deletePersonAssociations(Collection<Person> persons) {
+        requireNonNull(persons);
+        events.deleteFauxPersons(persons.stream().map(FauxPerson::new).collect(Collectors.toList()));
+    }
+
     /**
      * Sets associated {@code target} to {@code editedPerson} in {@code Calendar}.
      */
@@ -134,6 +179,25 @@ public class Calendar implements ReadOnlyCalendar {
         return events.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public List<Event> getEventsBetween(LocalDateTime start, LocalDateTime end) {
+        return events.getEventsBetween(start, end);
+    }
+
+    /**
+     * Returns the events whose description contains any of {@code keywords} as a full word, ignoring case,
+     * and that take place from {@code start} to {@code end} inclusive.
+     */
+    public Set<Event> getEventsWithDescriptionKeywords(Collection<String> keywords, LocalDateTime start,
+            LocalDateTime end) {
+        return events.getEventsWithDescriptionKeywords(keywords, start, end);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,13 @@
+package seedu.address.model;
+
+/**
+ * A component of the model whose modifications can be tracked, so that unchanged data need not be saved again.
+ */
+public interface ChangeTrackable {
+
+    /**
+     * Returns the number of modifications made to this component so far.
+     * Two equal counts read from the same component mean that its data did not change in between.
+     */
+    long getModificationCount();
+}
@@ -1,8 +1,9 @@
 package seedu.address.model;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
-import java.util.function.Consumer;
 
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
@@ -16,12 +17,21 @@ public class ContactTagIntegrationManager {
     private AddressBook addressBook;
     private TagTree tagTree;
 
+    /** Persons under each tag or any of its sub-tags, for the tags queried since the persons under them changed. */
+    private final Map<Tag, Set<Person>> personsUnderTagCache = new HashMap<>();
+
     /**
      * Creates a ContactTagIntegrationManager from the given {@code addressBook} and {@code tagTree}.
      */
     public ContactTagIntegrationManager(AddressBook addressBook, TagTree tagTree) {
         this.addressBook = addressBook;
         this.tagTree = tagTree;
+        tagTree.addEditListener(edit -> invalidatePersonsUnderTag(edit.getSuperTag()));
+        // edits are published as soon as they are made, even inside a batch, so the cache is never stale
+        addressBook.addEditListener(edit -> {
+            edit.getRemoved().forEach(this::invalidatePersonsUnderTags);
+            edit.getAdded().forEach(this::invalidatePersonsUnderTags);
+        });
     }
 
     public AddressBook getAddressBook() {
@@ -47,21 +57,37 @@ public class ContactTagIntegrationManager {
      * @return Set of Persons falling under either the argument {@code tag} or its sub-tags.
      */
     public Set<Person> getAllPersonsUnderTag(Tag tag) {
-        Set<Person> finalSet = new HashSet<>();
-        Consumer<Tag> consumer = new Consumer<Tag>() {
-            @Override
-            public void accept(Tag tag) {
-                if (addressBook.getPersonsWithTag(tag) == null) {
-                    return;
-                }
-                finalSet.addAll(addressBook.getPersonsWithTag(tag));
-                tagTree.getSubTagsOf(tag).stream().forEach(subTag -> accept(subTag));
+        Set<Person> personsUnderTag = personsUnderTagCache.get(tag);
+        if (personsUnderTag == null) {
+            personsUnderTag = new HashSet<>(addressBook.getPersonsWithTag(tag));
+            for (Tag subTag : tagTree.getSubTagsRecursive(tag)) {
+                personsUnderTag.addAll(addressBook.getPersonsWithTag(subTag));
             }
-        };
-        consumer.accept(tag);
-        return finalSet;
+            personsUnderTagCache.put(tag, personsUnderTag);
+        }
+        return new HashSet<>(personsUnderTag);
     }
 
+    /**
+     * Drops the cached persons of each tag of {@code person} and of every tag above them in the tag hierarchy.
+     */
+    private void invalidatePersonsUnderTags(Person person) {
+        if (personsUnderTagCache.isEmpty()) {
+            return;
+        }
+        person.getTags().forEach(this::invalidatePersonsUnderTag);
+    }
+
+    /**
+     * Drops the cached persons of {@code tag} and of every tag above it in the tag hierarchy.
+     */
+    private void invalidatePersonsUnderTag(Tag tag) {
+        if (personsUnderTagCache.isEmpty()) {
+            return;
+        }
+        personsUnderTagCache.remove(tag);
+        tagTree.getSuperTagsRecursive(tag).forEach(personsUnderTagCache::remove);
+    }
 
     /**
      * Deletes a {@code tag} from the existing tag tree.
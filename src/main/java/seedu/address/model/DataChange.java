@@ -0,0 +1,125 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.model.tag.TagTreeEdit;
+import seedu.address.model.util.ListEdit;
+
+/**
+ * A single change to the data of the model, made to exactly one of the persons, events, reminders or tag tree.
+ * Changes are published by the model as they are made, and can be applied again to an equal model.
+ */
+public class DataChange {
+
+    private final ListEdit<Person> personEdit;
+    private final ListEdit<Event> eventEdit;
+    private final ListEdit<Reminder> reminderEdit;
+    private final TagTreeEdit tagTreeEdit;
+
+    private DataChange(ListEdit<Person> personEdit, ListEdit<Event> eventEdit, ListEdit<Reminder> reminderEdit,
+            TagTreeEdit tagTreeEdit) {
+        this.personEdit = personEdit;
+        this.eventEdit = eventEdit;
+        this.reminderEdit = reminderEdit;
+        this.tagTreeEdit = tagTreeEdit;
+    }
+
+    /**
+     * Returns a change of the persons in the address book.
+     */
+    public static DataChange ofPersons(ListEdit<Person> edit) {
+        requireNonNull(edit);
+        return new DataChange(edit, null, null, null);
+    }
+
+    /**
+     * Returns a change of the events in the calendar.
+     */
+    public static DataChange ofEvents(ListEdit<Event> edit) {
+        requireNonNull(edit);
+        return new DataChange(null, edit, null, null);
+    }
+
+    /**
+     * Returns a change of the reminders.
+     */
+    public static DataChange ofReminders(ListEdit<Reminder> edit) {
+        requireNonNull(edit);
+        return new DataChange(null, null, edit, null);
+    }
+
+    /**
+     * Returns a change of the tag tree.
+     */
+    public static DataChange ofTagTree(TagTreeEdit edit) {
+        requireNonNull(edit);
+        return new DataChange(null, null, null, edit);
+    }
+
+    public Optional<ListEdit<Person>> getPersonEdit() {
+        return Optional.ofNullable(personEdit);
+    }
+
+    public Optional<ListEdit<Event>> getEventEdit() {
+        return Optional.ofNullable(eventEdit);
+    }
+
+    public Optional<ListEdit<Reminder>> getReminderEdit() {
+        return Optional.ofNullable(reminderEdit);
+    }
+
+    public Optional<TagTreeEdit> getTagTreeEdit() {
+        return Optional.ofNullable(tagTreeEdit);
+    }
+
+    /**
+     * Returns the change that undoes this change.
+     */
+    public DataChange invert() {
+        return new DataChange(personEdit == null ? null : personEdit.invert(),
+                eventEdit == null ? null : eventEdit.invert(),
+                reminderEdit == null ? null : reminderEdit.invert(),
+                tagTreeEdit == null ? null : tagTreeEdit.invert());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof DataChange)) {
+            return false;
+        }
+
+        DataChange otherChange = (DataChange) other;
+        return Objects.equals(personEdit, otherChange.personEdit)
+                && Objects.equals(eventEdit, otherChange.eventEdit)
+                && Objects.equals(reminderEdit, otherChange.reminderEdit)
+                && Objects.equals(tagTreeEdit, otherChange.tagTreeEdit);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(personEdit, eventEdit, reminderEdit, tagTreeEdit);
+    }
+
+    @Override
+    public String toString() {
+        if (personEdit != null) {
+            return "Persons: " + personEdit;
+        } else if (eventEdit != null) {
+            return "Events: " + eventEdit;
+        } else if (reminderEdit != null) {
+            return "Reminders: " + reminderEdit;
+        } else {
+            return "Tag tree: " + tagTreeEdit;
+        }
+    }
+
+}
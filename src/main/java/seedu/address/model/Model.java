@@ -1,14 +1,21 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.ContactDetail;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortKey;
 import seedu.address.model.reminder.ReadOnlyReminders;
 import seedu.address.model.reminder.Reminder;
 import seedu.address.model.tag.ReadOnlyTagTree;
@@ -227,6 +234,29 @@ public interface Model {
      */
     Set<Person> getPersonsWithTag(Tag tag);
 
+    /**
+     * Returns a set of all {@code person}s containing every tag in {@code tags}, which must not be empty.
+     */
+    Set<Person> getPersonsWithAllTags(Collection<Tag> tags);
+
+    /**
+     * Returns a set of all {@code person}s whose name contains any of {@code keywords} as a full word, ignoring case.
+     */
+    Set<Person> getPersonsWithNameKeywords(Collection<String> keywords);
+
+    /**
+     * Returns a set of {@code person}s including all whose {@code contactDetail} contains {@code keyword},
+     * ignoring case, or an empty {@code Optional} if {@code keyword} is too short to narrow down the persons.
+     * The {@code person}s returned must still be checked for {@code keyword}.
+     */
+    Optional<Set<Person>> getPersonsPossiblyWithContactDetail(ContactDetail contactDetail, String keyword);
+
+    /**
+     * Returns a set of all {@code event}s whose description contains any of {@code keywords} as a full word,
+     * ignoring case, and that take place from {@code start} to {@code end} inclusive.
+     */
+    Set<Event> getEventsWithDescriptionKeywords(Collection<String> keywords, LocalDateTime start, LocalDateTime end);
+
     /**
      * Returns a set of all {@code tag}s with at least one {@code person} tagged, present in the {@code Model}.
      */
@@ -301,9 +331,9 @@ public interface Model {
     void sortPerson(Comparator<Person> comparator);
 
     /**
-     * Permanently sorts the address book by a specific comparator
+     * Permanently sorts the address book by the keys of {@code sortKeys}, which are compared in order.
      */
-    void permaSortContacts(Comparator<Person> chooseComparator);
+    void permaSortContacts(List<PersonSortKey> sortKeys);
 
     /**
      * Updates the filter of the filtered event list to filter by the given {@code predicate}.
@@ -313,6 +343,25 @@ public interface Model {
 
     void sortEvent(Comparator<Event> comparator);
 
+    /**
+     * Adds a listener that is notified of every change to the persons, events, reminders and tag tree of the model,
+     * as soon as it is made.
+     */
+    void addDataChangeListener(Consumer<? super DataChange> listener);
+
+    /**
+     * Applies {@code change}, which must have been published by a model with the same data as this model.
+     */
+    void applyDataChange(DataChange change);
+
+    /**
+     * Makes the changes in {@code changes} as one change to the model.
+     * Listeners of the person, event and reminder lists are only notified once, after all the changes are made.
+     * If {@code changes} throws an exception, all the changes made so far are undone before it is rethrown.
+     * A batch made within another batch becomes part of the outer batch.
+     */
+    void batch(Runnable changes);
+
     void deleteObsoleteReminders();
 
 }
@@ -4,8 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -15,13 +21,16 @@ import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.ContactDetail;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortKey;
 import seedu.address.model.reminder.ReadOnlyReminders;
 import seedu.address.model.reminder.Reminder;
 import seedu.address.model.tag.ReadOnlyTagTree;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagTree;
 import seedu.address.model.tag.TagTreeImpl;
+import seedu.address.model.util.PrecomputedPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -43,6 +52,10 @@ public class ModelManager implements Model {
     private final FilteredList<Reminder> filteredReminders;
     private final SortedList<Reminder> sortedReminders;
 
+    private final List<Consumer<? super DataChange>> dataChangeListeners = new ArrayList<>();
+    private int batchDepth;
+    private List<DataChange> batchUndoLog;
+
     /**
      * Initializes a ModelManager with the given addressBook, calendar, tagTree, reminders and userPrefs.
      */
@@ -60,14 +73,24 @@ public class ModelManager implements Model {
                 + ", Reminders: " + reminders + "\n"
                 + " and UserPrefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.userPrefs = new UserPrefs(userPrefs);
+        this.addressBook = new AddressBook(addressBook, this.userPrefs.getIndexedContactDetails());
         this.calendar = new Calendar(calendar);
         this.tagTree = new TagTreeImpl(tagTree);
         this.reminders = new RemindersImpl(reminders);
-        this.userPrefs = new UserPrefs(userPrefs);
 
         contactTagIntegrationManager = new ContactTagIntegrationManager(this.addressBook, this.tagTree);
 
+        this.addressBook.addEditListener(edit -> publishDataChange(DataChange.ofPersons(edit)));
+        this.calendar.addEditListener(edit -> publishDataChange(DataChange.ofEvents(edit)));
+        this.reminders.addEditListener(edit -> publishDataChange(DataChange.ofReminders(edit)));
+        this.tagTree.addEditListener(edit -> publishDataChange(DataChange.ofTagTree(edit)));
+
+        for (ContactDetail contactDetail : this.userPrefs.getIndexedContactDetails()) {
+            logger.fine("Substring index of " + contactDetail + " uses about "
+                    + this.addressBook.getContactDetailIndexMemoryUsage(contactDetail) + " bytes");
+        }
+
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         sortedPersons = new SortedList<>(filteredPersons);
 
@@ -231,13 +254,13 @@ public class ModelManager implements Model {
     @Override
     public void deleteTag(Tag tag) {
         assert tag != null;
-        contactTagIntegrationManager.deleteTag(tag);
+        batch(() -> contactTagIntegrationManager.deleteTag(tag));
     }
 
     @Override
     public void deleteTagRecursive(Tag tag) {
         assert tag != null;
-        contactTagIntegrationManager.deleteTagRecursive(tag);
+        batch(() -> contactTagIntegrationManager.deleteTagRecursive(tag));
     }
 
     @Override
@@ -309,14 +332,69 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void permaSortContacts(Comparator<Person> comparator) {
-        addressBook.sortPerson(comparator);
+    public void permaSortContacts(List<PersonSortKey> sortKeys) {
+        addressBook.sortPersons(sortKeys);
     }
 
     public void sortEvent(Comparator<Event> comparator) {
         sortedEvents.comparatorProperty().setValue(comparator);
     }
 
+    @Override
+    public void addDataChangeListener(Consumer<? super DataChange> listener) {
+        requireNonNull(listener);
+        dataChangeListeners.add(listener);
+    }
+
+    @Override
+    public void applyDataChange(DataChange change) {
+        requireNonNull(change);
+        change.getPersonEdit().ifPresent(addressBook::applyEdit);
+        change.getEventEdit().ifPresent(calendar::applyEdit);
+        change.getReminderEdit().ifPresent(reminders::applyEdit);
+        change.getTagTreeEdit().ifPresent(tagTree::applyEdit);
+    }
+
+    private void publishDataChange(DataChange change) {
+        if (batchUndoLog != null) {
+            batchUndoLog.add(change);
+        }
+        dataChangeListeners.forEach(listener -> listener.accept(change));
+    }
+
+    @Override
+    public void batch(Runnable changes) {
+        requireNonNull(changes);
+        if (batchDepth > 0) {
+            // The outermost batch publishes the changes, and undoes them if any part of it fails
+            changes.run();
+            return;
+        }
+
+        batchDepth++;
+        batchUndoLog = new ArrayList<>();
+        addressBook.beginBatch();
+        calendar.beginBatch();
+        reminders.beginBatch();
+        try {
+            changes.run();
+        } catch (RuntimeException e) {
+            logger.warning("Undoing batch of changes that failed: " + e);
+            List<DataChange> undoLog = batchUndoLog;
+            batchUndoLog = null;
+            for (int i = undoLog.size() - 1; i >= 0; i--) {
+                applyDataChange(undoLog.get(i).invert());
+            }
+            throw e;
+        } finally {
+            reminders.endBatch();
+            calendar.endBatch();
+            addressBook.endBatch();
+            batchUndoLog = null;
+            batchDepth--;
+        }
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -346,6 +424,27 @@ public class ModelManager implements Model {
         return addressBook.getPersonsWithTag(tag);
     }
 
+    @Override
+    public Set<Person> getPersonsWithAllTags(Collection<Tag> tags) {
+        return addressBook.getPersonsWithAllTags(tags);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithNameKeywords(Collection<String> keywords) {
+        return addressBook.getPersonsWithNameKeywords(keywords);
+    }
+
+    @Override
+    public Optional<Set<Person>> getPersonsPossiblyWithContactDetail(ContactDetail contactDetail, String keyword) {
+        return addressBook.getPersonsPossiblyWithContactDetail(contactDetail, keyword);
+    }
+
+    @Override
+    public Set<Event> getEventsWithDescriptionKeywords(Collection<String> keywords, LocalDateTime start,
+            LocalDateTime end) {
+        return calendar.getEventsWithDescriptionKeywords(keywords, start, end);
+    }
+
     @Override
     public Set<Tag> getPersonTags() {
         return addressBook.getTags();
@@ -373,12 +472,11 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePersonsByTag(Tag tag) {
-        //clears all deleted persons from events associating them.
-        contactTagIntegrationManager.getAllPersonsUnderTag(tag).stream()
-                                    .forEach(person -> {
-                                        calendar.deletePersonAssociation(person);
-                                    });
-        contactTagIntegrationManager.deleteTagAndDirectContacts(tag);
+        batch(() -> {
+            //clears all deleted persons from events associating them.
+            calendar.deletePersonAssociations(contactTagIntegrationManager.getAllPersonsUnderTag(tag));
+            contactTagIntegrationManager.deleteTagAndDirectContacts(tag);
+        });
     }
 
     // Filter/sort related methods
@@ -386,13 +484,32 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        setPredicate(filteredPersons, predicate, PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void updateFilteredEventList(Predicate<Event> predicate) {
         requireNonNull(predicate);
-        filteredEvents.setPredicate(predicate);
+        setPredicate(filteredEvents, predicate, PREDICATE_SHOW_ALL_EVENTS);
+    }
+
+    /**
+     * Filters {@code filteredList} by {@code predicate}. If the list is large, the predicate is first evaluated
+     * for every element in parallel, and the matching elements are then published to the list in one update.
+     * A {@code PrecomputedPredicate} already knows its matching elements, so it is set as it is.
+     */
+    private static <T> void setPredicate(FilteredList<T> filteredList, Predicate<T> predicate,
+            Predicate<T> showAllPredicate) {
+        if (predicate == showAllPredicate || predicate instanceof PrecomputedPredicate
+                || filteredList.getSource().size() < PrecomputedPredicate.PARALLEL_THRESHOLD) {
+            filteredList.setPredicate(predicate);
+            return;
+        }
+
+        PrecomputedPredicate<T> precomputedPredicate = PrecomputedPredicate.evaluate(predicate,
+                filteredList.getSource());
+        filteredList.setPredicate(precomputedPredicate);
+        precomputedPredicate.stopUsingResults();
     }
 
     @Override
@@ -1,5 +1,9 @@
 package seedu.address.model;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.event.Event;
 
@@ -14,4 +18,17 @@ public interface ReadOnlyCalendar {
      */
     ObservableList<Event> getEventList();
 
+    /**
+     * Returns an unmodifiable list of the events that take place from {@code start} to {@code end} inclusive,
+     * ordered by time.
+     * Implementations that keep their events indexed by time should override this linear scan.
+     */
+    default List<Event> getEventsBetween(LocalDateTime start, LocalDateTime end) {
+        return getEventList().stream()
+                .filter(event -> !event.getTime().getTime().isBefore(start)
+                        && !event.getTime().getTime().isAfter(end))
+                .sorted((first, second) -> first.getTime().getTime().compareTo(second.getTime().getTime()))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
 }
@@ -3,6 +3,7 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.ContactDetail;
 
 /**
  * Unmodifiable view of user prefs.
@@ -19,4 +20,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getRemindersFilePath();
 
+    /**
+     * Returns true if persons are found by substrings of {@code contactDetail} through an index, instead of by
+     * checking the contact detail of every person.
+     */
+    boolean isContactDetailIndexed(ContactDetail contactDetail);
+
 }
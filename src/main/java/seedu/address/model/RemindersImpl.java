@@ -2,24 +2,29 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.event.Event;
 import seedu.address.model.reminder.ReadOnlyReminders;
 import seedu.address.model.reminder.Reminder;
 import seedu.address.model.reminder.UniqueRemindersList;
+import seedu.address.model.util.ListEdit;
 
 /**
  * Wraps all data at the calendar level
  * Duplicates are not allowed (by .isSameReminder comparison)
  */
-public class RemindersImpl implements ReadOnlyReminders {
+public class RemindersImpl implements ReadOnlyReminders, ChangeTrackable {
 
     private final UniqueRemindersList reminders;
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -30,6 +35,8 @@ public class RemindersImpl implements ReadOnlyReminders {
      */
     {
         reminders = new UniqueRemindersList();
+        reminders.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Reminder>) change -> modificationCount++);
     }
 
     public RemindersImpl() {}
@@ -61,6 +68,34 @@ public class RemindersImpl implements ReadOnlyReminders {
         setReminders(newData.getRemindersList());
     }
 
+    /**
+     * Starts a batch of changes to the reminders, which are published to listeners as one change when it ends.
+     */
+    public void beginBatch() {
+        reminders.beginBatch();
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        reminders.endBatch();
+    }
+
+    /**
+     * Applies {@code edit}, which must have been made to the reminder list of reminders equal to these.
+     */
+    public void applyEdit(ListEdit<Reminder> edit) {
+        reminders.applyEdit(edit);
+    }
+
+    /**
+     * Adds a listener that is notified of every edit made to the reminder list, as soon as it is made.
+     */
+    public void addEditListener(Consumer<? super ListEdit<Reminder>> listener) {
+        reminders.addEditListener(listener);
+    }
+
     /// reminder-level operations
 
     /**
@@ -101,16 +136,7 @@ public class RemindersImpl implements ReadOnlyReminders {
      * Removes all reminders for events that have expired.
      */
     public void deleteObsoleteReminders() {
-        ArrayList<Reminder> toBeDeleted = new ArrayList<Reminder>();
-        for (Reminder r: reminders) {
-            if (r.getEventToRemind().getTime().getTime().isBefore(LocalDateTime.now())) {
-                toBeDeleted.add(r);
-            }
-        }
-        if (toBeDeleted != null) {
-            toBeDeleted.stream()
-                        .forEach(reminder -> removeReminder(reminder));
-        }
+        reminders.removeRemindersOfEventsBefore(LocalDateTime.now());
     }
 
     /**
@@ -118,15 +144,7 @@ public class RemindersImpl implements ReadOnlyReminders {
      * This is what the command aims to achieve.
      */
     public void deleteReminderOfEvent(Event eventToDelete) {
-        Reminder toDelete = null;
-        for (Reminder r: reminders) {
-            if (r.getEventToRemind().equals(eventToDelete)) {
-                toDelete = r;
-            }
-        }
-        if (toDelete != null) {
-            removeReminder(toDelete);
-        }
+        reminders.getReminderOfEvent(eventToDelete).ifPresent(this::removeReminder);
     }
 
     /**
@@ -134,21 +152,11 @@ public class RemindersImpl implements ReadOnlyReminders {
      * This is what the command aims to achieve.
      */
     public void updateReminder(Event targetEvent, Event editedEvent) {
-        Reminder toDelete = null;
-        for (Reminder r: reminders) {
-            if (r.getEventToRemind().equals(targetEvent)) {
-                toDelete = r;
-            }
-        }
-        if (toDelete != null) {
-            removeReminder(toDelete);
-            int daysInAdvance = (int) ChronoUnit.DAYS.between(toDelete.getEventToRemind().getTime().time.toLocalDate(),
-                    toDelete.getReminderDate().time.toLocalDate());
-            Reminder editedReminder = new Reminder(editedEvent, daysInAdvance);
-
-            addReminder(editedReminder);
-        }
-
+        reminders.getReminderOfEvent(targetEvent).ifPresent(toUpdate -> {
+            int daysInAdvance = (int) ChronoUnit.DAYS.between(toUpdate.getEventToRemind().getTime().time.toLocalDate(),
+                    toUpdate.getReminderDate().time.toLocalDate());
+            setReminder(toUpdate, new Reminder(editedEvent, daysInAdvance));
+        });
     }
 
     //// util methods
@@ -164,9 +172,24 @@ public class RemindersImpl implements ReadOnlyReminders {
         return reminders.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public boolean hasRemindersDue() {
-        return reminders.hasRemindersDue();
+        return reminders.hasRemindersDue(LocalDate.now());
+    }
+
+    @Override
+    public List<Reminder> getRemindersDue() {
+        return reminders.getRemindersDue(LocalDate.now());
+    }
+
+    @Override
+    public Optional<LocalDate> getNextReminderDateAfter(LocalDate date) {
+        return reminders.getNextReminderDateAfter(date);
     }
 
     @Override
@@ -4,9 +4,14 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.ContactDetail;
 
 /**
  * Represents User's preferences.
@@ -18,6 +23,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path calendarFilePath = Paths.get("data" , "calendar.json");
     private Path tagTreeFilePath = Paths.get("data", "tagtree.json");
     private Path remindersFilePath = Paths.get("data", "reminders.json");
+    /** Whether each contact detail keeps an index of its substrings. Details that are left out are indexed. */
+    private Map<ContactDetail, Boolean> contactDetailIndexEnabled = new EnumMap<>(ContactDetail.class);
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -42,6 +49,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setCalendarFilePath(newUserPrefs.getCalendarFilePath());
         setTagTreeFilePath(newUserPrefs.getTagTreeFilePath());
         setRemindersFilePath(newUserPrefs.getRemindersFilePath());
+        for (ContactDetail contactDetail : ContactDetail.values()) {
+            setContactDetailIndexed(contactDetail, newUserPrefs.isContactDetailIndexed(contactDetail));
+        }
     }
 
     public GuiSettings getGuiSettings() {
@@ -89,6 +99,30 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.remindersFilePath = remindersFilePath;
     }
 
+    @Override
+    public boolean isContactDetailIndexed(ContactDetail contactDetail) {
+        requireNonNull(contactDetail);
+        return contactDetailIndexEnabled.getOrDefault(contactDetail, true);
+    }
+
+    public void setContactDetailIndexed(ContactDetail contactDetail, boolean isIndexed) {
+        requireNonNull(contactDetail);
+        contactDetailIndexEnabled.put(contactDetail, isIndexed);
+    }
+
+    /**
+     * Returns the contact details that keep an index of their substrings.
+     */
+    public Set<ContactDetail> getIndexedContactDetails() {
+        Set<ContactDetail> indexedContactDetails = EnumSet.noneOf(ContactDetail.class);
+        for (ContactDetail contactDetail : ContactDetail.values()) {
+            if (isContactDetailIndexed(contactDetail)) {
+                indexedContactDetails.add(contactDetail);
+            }
+        }
+        return indexedContactDetails;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -104,12 +138,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
                 && addressBookFilePath.equals(o.addressBookFilePath)
                 && calendarFilePath.equals(o.calendarFilePath)
                 && tagTreeFilePath.equals(o.tagTreeFilePath)
-                && remindersFilePath.equals(o.remindersFilePath);
+                && remindersFilePath.equals(o.remindersFilePath)
+                && getIndexedContactDetails().equals(o.getIndexedContactDetails());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, calendarFilePath, tagTreeFilePath, remindersFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, calendarFilePath, tagTreeFilePath, remindersFilePath,
+                getIndexedContactDetails());
     }
 
     @Override
@@ -120,6 +156,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("\nLocal data file location for calendar: " + calendarFilePath);
         sb.append("\nLocal data file location for tagtree: " + tagTreeFilePath);
         sb.append("\nLocal data file location for reminders: " + remindersFilePath);
+        sb.append("\nContact details indexed for substring search: " + getIndexedContactDetails());
         return sb.toString();
     }
 
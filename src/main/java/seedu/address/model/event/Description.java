@@ -3,6 +3,8 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents an Event's Description in the Calendar.
  * Guarantees: immutable; is valid as declared in {@link #isValidDescription (String)}
@@ -13,6 +15,8 @@ public class Description {
 
     public final String fullDescription;
 
+    private final String sortKey;
+
     /**
      * Constructs a {@code Description}.
      *
@@ -22,6 +26,14 @@ public class Description {
         requireNonNull(description);
         checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS);
         fullDescription = description;
+        sortKey = StringUtil.toCaseInsensitiveSortKey(fullDescription);
+    }
+
+    /**
+     * Returns the key that orders descriptions alphabetically, ignoring case.
+     */
+    public String getSortKey() {
+        return sortKey;
     }
 
 
@@ -1,14 +1,18 @@
 package seedu.address.model.event;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 /**
- * Tests that a {@code Event}'s {@code Description} matches any of the keywords given.
+ * Tests that a {@code Event}'s {@code Description} matches any of the keywords given,
+ * and that the {@code Event} takes place within the time range given, if any.
  */
 public class DescriptionContainsKeywordsPredicate implements Predicate<Event> {
     private List<String> keywords;
+    private LocalDateTime start = LocalDateTime.MIN;
+    private LocalDateTime end = LocalDateTime.MAX;
 
     public DescriptionContainsKeywordsPredicate() {}
 
@@ -16,17 +20,45 @@ public class DescriptionContainsKeywordsPredicate implements Predicate<Event> {
         this.keywords = keywords;
     }
 
+    /**
+     * Only matches events that take place from {@code start} to {@code end} inclusive.
+     */
+    public void setTimeRange(LocalDateTime start, LocalDateTime end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
     @Override
     public boolean test(Event event) {
-        return keywords.stream()
-                .anyMatch(keyword ->
+        LocalDateTime time = event.getTime().getTime();
+        return !time.isBefore(start) && !time.isAfter(end)
+                && keywords.stream().anyMatch(keyword ->
                         StringUtil.containsWordIgnoreCase(event.getDescription().fullDescription, keyword));
     }
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof DescriptionContainsKeywordsPredicate // instanceof handles nulls
-                && keywords.equals(((DescriptionContainsKeywordsPredicate) other).keywords)); // state check
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+        if (!(other instanceof DescriptionContainsKeywordsPredicate)) { // instanceof handles nulls
+            return false;
+        }
+        DescriptionContainsKeywordsPredicate otherPredicate = (DescriptionContainsKeywordsPredicate) other;
+        return keywords.equals(otherPredicate.keywords) // state check
+                && start.equals(otherPredicate.start)
+                && end.equals(otherPredicate.end);
     }
 }
@@ -0,0 +1,79 @@
+package seedu.address.model.event;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Keeps track of the {@code Event}s whose description contains each word, ignoring case.
+ * Events whose description contains any of several words can then be found without checking the description of
+ * every event. Words are split the same way as {@link StringUtil#containsWordIgnoreCase}.
+ * Events are held by reference.
+ */
+public class DescriptionTokenIndex {
+
+    private final Map<String, Set<Event>> tokenEventSetMap = new HashMap<>();
+
+    /**
+     * Adds {@code event} under each word of its description.
+     */
+    public void addEvent(Event event) {
+        for (String token : getTokens(event)) {
+            tokenEventSetMap.computeIfAbsent(token, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(event);
+        }
+    }
+
+    /**
+     * Removes {@code event} from under each word of its description.
+     */
+    public void removeEvent(Event event) {
+        for (String token : getTokens(event)) {
+            Set<Event> events = tokenEventSetMap.get(token);
+            if (events == null) {
+                continue;
+            }
+            events.remove(event);
+            if (events.isEmpty()) {
+                tokenEventSetMap.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Removes all events from the index.
+     */
+    public void clear() {
+        tokenEventSetMap.clear();
+    }
+
+    /**
+     * Returns the events whose description contains any of {@code keywords} as a full word, ignoring case.
+     * The set returned compares events by reference and can be modified by the caller.
+     *
+     * @param keywords single words, which cannot be empty.
+     */
+    public Set<Event> getEventsWithAnyKeyword(Collection<String> keywords) {
+        Set<Event> events = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            String token = StringUtil.toCaseInsensitiveSortKey(keyword.trim());
+            events.addAll(tokenEventSetMap.getOrDefault(token, Set.of()));
+        }
+        return events;
+    }
+
+    private static Set<String> getTokens(Event event) {
+        Set<String> tokens = new HashSet<>();
+        for (String token : event.getDescription().fullDescription.split("\\s+")) {
+            tokens.add(StringUtil.toCaseInsensitiveSortKey(token));
+        }
+        return tokens;
+    }
+
+}
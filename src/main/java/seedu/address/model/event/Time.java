@@ -6,10 +6,13 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.TextStyle;
 import java.util.Locale;
+import java.util.Optional;
 
 /**
  * Represents an Event's Time in the Calendar.
@@ -29,6 +32,11 @@ public class Time {
             + "[d" + symbol + "M" + symbol + "yy H" + symbol + "m]"
             + "[yy" + symbol + "d" + symbol + "M H" + symbol + "m]";
 
+    // Formatters are immutable and thread-safe, so each pattern is compiled once and shared.
+    private static final DateTimeFormatter STANDARD_TIME_FORMATTER = DateTimeFormatter.ofPattern(STANDARD_TIME_PATTERN);
+    private static final DateTimeFormatter STORAGE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm");
+    private static final DateTimeFormatter CLOCK_TIME_FORMATTER = DateTimeFormatter.ofPattern("h:mma");
+
     public final LocalDateTime time;
 
     /**
@@ -38,8 +46,9 @@ public class Time {
      */
     public Time(String timeInput) {
         requireNonNull(timeInput);
-        checkArgument(isValidTime(timeInput), MESSAGE_CONSTRAINTS);
-        this.time = parse(timeInput);
+        LocalDateTime parsedTime = parseOrNull(timeInput);
+        checkArgument(parsedTime != null, MESSAGE_CONSTRAINTS);
+        this.time = parsedTime;
     }
 
     /**
@@ -60,16 +69,74 @@ public class Time {
      * Returns if a given string is a valid time.
      */
     public static boolean isValidTime(String timeInput) {
+        return parseOrNull(timeInput) != null;
+    }
+
+    /**
+     * Returns the {@code Time} that {@code timeInput} represents, or an empty {@code Optional} if it is not a valid
+     * time. Validates and parses {@code timeInput} in a single pass.
+     */
+    public static Optional<Time> tryParse(String timeInput) {
+        requireNonNull(timeInput);
+        return Optional.ofNullable(parseOrNull(timeInput)).map(Time::new);
+    }
+
+    public static LocalDateTime parse(String timeInput) {
+        LocalDateTime parsedTime = parseStorageFormat(timeInput);
+        return parsedTime != null ? parsedTime : LocalDateTime.parse(timeInput, STANDARD_TIME_FORMATTER);
+    }
+
+    /**
+     * Returns the time that {@code timeInput} represents, or null if it is not a valid time.
+     */
+    private static LocalDateTime parseOrNull(String timeInput) {
+        LocalDateTime parsedTime = parseStorageFormat(timeInput);
+        if (parsedTime != null) {
+            return parsedTime;
+        }
         try {
-            LocalDateTime.parse(timeInput, DateTimeFormatter.ofPattern(STANDARD_TIME_PATTERN));
-            return true;
+            return LocalDateTime.parse(timeInput, STANDARD_TIME_FORMATTER);
         } catch (DateTimeParseException e) {
-            return false;
+            return null;
         }
     }
 
-    public static LocalDateTime parse(String timeInput) {
-        return LocalDateTime.parse(timeInput, DateTimeFormatter.ofPattern(STANDARD_TIME_PATTERN));
+    /**
+     * Parses {@code timeInput} if it is in the "dd-MM-yyyy HH:mm" format that times are saved in, without going
+     * through a {@code DateTimeFormatter}. Returns null for any other input, including dates or times out of range,
+     * which the standard pattern may still accept or adjust, so the result never differs from the standard pattern.
+     */
+    private static LocalDateTime parseStorageFormat(String timeInput) {
+        if (timeInput.length() != 16 || timeInput.charAt(2) != '-' || timeInput.charAt(5) != '-'
+                || timeInput.charAt(10) != ' ' || timeInput.charAt(13) != ':') {
+            return null;
+        }
+        int day = parseDigits(timeInput, 0, 2);
+        int month = parseDigits(timeInput, 3, 5);
+        int year = parseDigits(timeInput, 6, 10);
+        int hour = parseDigits(timeInput, 11, 13);
+        int minute = parseDigits(timeInput, 14, 16);
+        if (day < 1 || month < 1 || month > 12 || year < 1 || hour < 0 || hour > 23 || minute < 0 || minute > 59
+                || day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute);
+    }
+
+    /**
+     * Returns the number formed by the ASCII digits of {@code text} from {@code start} to {@code end}, or -1 if any
+     * of the characters is not a digit.
+     */
+    private static int parseDigits(String text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char digit = text.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return -1;
+            }
+            value = value * 10 + (digit - '0');
+        }
+        return value;
     }
 
     // getDisplayName controls the format of time displayed in the GUI panel and in the response.
@@ -80,7 +147,7 @@ public class Time {
                 .append(getDayOfMonthAsString() + " ")
                 .append(time.getMonth().getDisplayName(TextStyle.SHORT_STANDALONE, Locale.ENGLISH) + " ")
                 .append(time.getYear() + " ")
-                .append(time.format(DateTimeFormatter.ofPattern("h:mma")).toLowerCase());
+                .append(time.format(CLOCK_TIME_FORMATTER).toLowerCase());
 
         LocalDate now = LocalDate.now();
         long dayDifference = DAYS.between(now, time.toLocalDate());
@@ -132,7 +199,7 @@ public class Time {
     // toString() controls the format of time saved in calendar.json file
     @Override
     public String toString() {
-        return time.format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm"));
+        return time.format(STORAGE_TIME_FORMATTER);
     }
 
     @Override
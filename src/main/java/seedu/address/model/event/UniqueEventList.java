@@ -1,16 +1,30 @@
 package seedu.address.model.event;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.hasUniqueKeys;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.event.association.FauxPerson;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
+import seedu.address.model.util.BatchableObservableList;
+import seedu.address.model.util.ListEdit;
 
 /**
  * A list of events that enforces uniqueness between its elements and does not allow nulls.
@@ -25,16 +39,31 @@ import seedu.address.model.event.exceptions.EventNotFoundException;
  */
 public class UniqueEventList implements Iterable<Event> {
 
-    private final ObservableList<Event> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<Event> internalList = new BatchableObservableList<>();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /*
+     * Secondary index of the events in the list ordered by time. Events that share a time are kept in one bucket.
+     * Both Event#isSameEvent(Event) and Event#clash(Event) require the events to have the same time, so duplicate
+     * and clash checks only need to look at a single bucket.
+     */
+    private final NavigableMap<LocalDateTime, List<Event>> timeIndex = new TreeMap<>();
+
+    /*
+     * Reverse index from each associated person to the events in the list that reference them, so that contact
+     * edits and deletions only need to visit the events that are affected. Events are held by reference.
+     */
+    private final Map<FauxPerson, Set<Event>> attendeeIndex = new HashMap<>();
+
+    private final DescriptionTokenIndex descriptionIndex = new DescriptionTokenIndex();
+
     /**
      * Returns true if the list contains an equivalent event as the given argument.
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return getEventsAt(toCheck.getTime().getTime()).stream().anyMatch(toCheck::isSameEvent);
     }
 
     /**
@@ -42,7 +71,49 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public boolean anyClash(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::clash);
+        return getEventsAt(toCheck.getTime().getTime()).stream().anyMatch(toCheck::clash);
+    }
+
+    /**
+     * Returns the events in the list that take place from {@code start} to {@code end} inclusive, ordered by time.
+     */
+    public List<Event> getEventsBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        if (start.isAfter(end)) {
+            return Collections.emptyList();
+        }
+
+        List<Event> eventsBetween = new ArrayList<>();
+        timeIndex.subMap(start, true, end, true).values().forEach(eventsBetween::addAll);
+        return Collections.unmodifiableList(eventsBetween);
+    }
+
+    /**
+     * Returns the events in the list whose description contains any of {@code keywords} as a full word, ignoring
+     * case, and that take place from {@code start} to {@code end} inclusive.
+     */
+    public Set<Event> getEventsWithDescriptionKeywords(Collection<String> keywords, LocalDateTime start,
+            LocalDateTime end) {
+        requireAllNonNull(keywords, start, end);
+        Set<Event> keywordEvents = descriptionIndex.getEventsWithAnyKeyword(keywords);
+        if (keywordEvents.isEmpty() || start.isAfter(end)) {
+            return Collections.emptySet();
+        }
+
+        // Walks the events in the time range while there are fewer of them than events with the keywords,
+        // so that only the smaller of the two is visited
+        Set<Event> matchingEvents = Collections.newSetFromMap(new IdentityHashMap<>());
+        int eventsVisited = 0;
+        for (List<Event> eventsAtTime : timeIndex.subMap(start, true, end, true).values()) {
+            eventsVisited += eventsAtTime.size();
+            if (eventsVisited > keywordEvents.size()) {
+                keywordEvents.removeIf(event -> event.getTime().getTime().isBefore(start)
+                        || event.getTime().getTime().isAfter(end));
+                return keywordEvents;
+            }
+            eventsAtTime.stream().filter(keywordEvents::contains).forEach(matchingEvents::add);
+        }
+        return matchingEvents;
     }
 
     /**
@@ -55,6 +126,7 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
         internalList.add(toAdd);
+        addToIndex(toAdd);
     }
 
     /**
@@ -74,7 +146,7 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
 
-        internalList.set(index, editedEvent);
+        setEventAt(index, editedEvent);
     }
 
     /**
@@ -83,14 +155,18 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new EventNotFoundException();
         }
+        // the index holds the instance in the list, which may be a different but equal instance to toRemove
+        removeFromIndex(internalList.remove(index));
     }
 
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
     }
 
     /**
@@ -104,38 +180,77 @@ public class UniqueEventList implements Iterable<Event> {
         }
 
         internalList.setAll(events);
+        rebuildIndex();
     }
 
     /**
      * Deletes instances of {@code fauxPerson} from events in this list.
      */
     public void deleteFauxPerson(FauxPerson fauxPerson) {
-        for (Event event : internalList) {
-            int index = internalList.indexOf(event);
-            // this is in a for loop, the following should not happen
-            if (index == -1) {
-                throw new EventNotFoundException();
+        requireNonNull(fauxPerson);
+        deleteFauxPersons(List.of(fauxPerson));
+    }
+
+    /**
+     * Deletes instances of every faux person in {@code fauxPersons} from events in this list.
+     * Only the events attended by them are replaced, in a single update of the list.
+     */
+    public void deleteFauxPersons(Collection<FauxPerson> fauxPersons) {
+        requireAllNonNull(fauxPersons);
+        Map<Event, Event> replacements = new IdentityHashMap<>();
+        for (FauxPerson fauxPerson : fauxPersons) {
+            for (Event event : getEventsAttendedBy(fauxPerson)) {
+                Event editedEvent = new Event(replacements.getOrDefault(event, event));
+                editedEvent.deleteFauxPerson(fauxPerson);
+                replacements.put(event, editedEvent);
             }
-            Event editedEvent = new Event(event);
-            editedEvent.deleteFauxPerson(fauxPerson);
-            internalList.set(index, editedEvent);
         }
+        replaceEvents(replacements);
     }
 
     /**
      * Sets associated {@code target} to {@code editedPerson} for events in this list.
+     * Only the events attended by {@code target} are replaced, in a single update of the list.
      */
     public void setFauxPerson(FauxPerson target, FauxPerson editedFauxPerson) {
-        for (Event event : internalList) {
-            int index = internalList.indexOf(event);
-            // this is in a for loop, the following should not happen
-            if (index == -1) {
-                throw new EventNotFoundException();
-            }
+        requireAllNonNull(target, editedFauxPerson);
+        Map<Event, Event> replacements = new IdentityHashMap<>();
+        for (Event event : getEventsAttendedBy(target)) {
             Event editedEvent = new Event(event);
             editedEvent.setFauxPerson(target, editedFauxPerson);
-            internalList.set(index, editedEvent);
+            replacements.put(event, editedEvent);
         }
+        replaceEvents(replacements);
+    }
+
+    /**
+     * Applies {@code edit}, which must have been made to a list equal to this list, keeping the indices in sync.
+     */
+    public void applyEdit(ListEdit<Event> edit) {
+        requireNonNull(edit);
+        internalList.applyEdit(edit).forEach(this::removeFromIndex);
+        edit.getAdded().forEach(this::addToIndex);
+    }
+
+    /**
+     * Adds a listener that is notified of every edit made to the list, as soon as it is made.
+     */
+    public void addEditListener(Consumer<? super ListEdit<Event>> listener) {
+        internalList.addEditListener(listener);
+    }
+
+    /**
+     * Starts a batch of changes to the list, which are published to its listeners as one change when it ends.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -163,16 +278,83 @@ public class UniqueEventList implements Iterable<Event> {
     }
 
     /**
-     * Returns true if {@code events} contains only unique events.
+     * Replaces the event at {@code index} of the backing list with {@code editedEvent}, keeping the index in sync.
      */
-    private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
+    private void setEventAt(int index, Event editedEvent) {
+        Event target = internalList.set(index, editedEvent);
+        removeFromIndex(target);
+        addToIndex(editedEvent);
+    }
+
+    /**
+     * Replaces every event in the backing list that is a key of {@code replacements} with its mapped value,
+     * publishing a single change for all of them. Only the positions of the replaced events are looked up.
+     */
+    private void replaceEvents(Map<Event, Event> replacements) {
+        if (replacements.isEmpty()) {
+            return;
+        }
+
+        internalList.beginBatch();
+        for (Map.Entry<Event, Event> replacement : replacements.entrySet()) {
+            // events in the list are unique, so the first equal event is the one being replaced
+            setEventAt(internalList.indexOf(replacement.getKey()), replacement.getValue());
+        }
+        internalList.endBatch();
+    }
+
+    /**
+     * Returns the events in the list that take place exactly at {@code time}.
+     */
+    private List<Event> getEventsAt(LocalDateTime time) {
+        return timeIndex.getOrDefault(time, Collections.emptyList());
+    }
+
+    /**
+     * Returns the events in the list that {@code fauxPerson} is associated to.
+     */
+    private Set<Event> getEventsAttendedBy(FauxPerson fauxPerson) {
+        return attendeeIndex.getOrDefault(fauxPerson, Collections.emptySet());
+    }
+
+    private void addToIndex(Event event) {
+        timeIndex.computeIfAbsent(event.getTime().getTime(), unused -> new ArrayList<>()).add(event);
+        for (FauxPerson fauxPerson : event.getAssociatedPersons()) {
+            attendeeIndex.computeIfAbsent(fauxPerson, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(event);
+        }
+        descriptionIndex.addEvent(event);
+    }
+
+    private void removeFromIndex(Event event) {
+        LocalDateTime time = event.getTime().getTime();
+        List<Event> eventsAtTime = timeIndex.get(time);
+        eventsAtTime.remove(event);
+        if (eventsAtTime.isEmpty()) {
+            timeIndex.remove(time);
+        }
+        for (FauxPerson fauxPerson : event.getAssociatedPersons()) {
+            Set<Event> attendedEvents = attendeeIndex.get(fauxPerson);
+            attendedEvents.remove(event);
+            if (attendedEvents.isEmpty()) {
+                attendeeIndex.remove(fauxPerson);
             }
         }
-        return true;
+        descriptionIndex.removeEvent(event);
+    }
+
+    private void rebuildIndex() {
+        timeIndex.clear();
+        attendeeIndex.clear();
+        descriptionIndex.clear();
+        internalList.forEach(this::addToIndex);
+    }
+
+    /**
+     * Returns true if {@code events} contains only unique events.
+     */
+    private boolean eventsAreUnique(List<Event> events) {
+        // Event#isSameEvent(Event) compares the description and time of the events.
+        return hasUniqueKeys(events, event -> List.of(event.getDescription(), event.getTime()));
     }
 }
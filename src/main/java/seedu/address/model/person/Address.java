@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -20,6 +22,8 @@ public class Address {
 
     public final String value;
 
+    private final String sortKey;
+
     /**
      * Constructs an {@code Address}.
      *
@@ -29,6 +33,14 @@ public class Address {
         requireNonNull(address);
         checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
         value = address;
+        sortKey = StringUtil.toCaseInsensitiveSortKey(value);
+    }
+
+    /**
+     * Returns the key that orders addresses alphabetically, ignoring case.
+     */
+    public String getSortKey() {
+        return sortKey;
     }
 
     /**
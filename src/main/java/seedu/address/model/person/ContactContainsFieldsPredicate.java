@@ -1,8 +1,13 @@
 package seedu.address.model.person;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.model.tag.Tag;
@@ -24,6 +29,7 @@ public class ContactContainsFieldsPredicate implements Predicate<Person> {
     private String emailKeyword = EMPTY_FIELD;
     private String addressKeyword = EMPTY_FIELD;
     private List<String> tags = new ArrayList<>();
+    private Set<Tag> tagSet = new HashSet<>();
 
     public ContactContainsFieldsPredicate() {}
 
@@ -34,6 +40,14 @@ public class ContactContainsFieldsPredicate implements Predicate<Person> {
                 && hasTagMatch(person);
     }
 
+    /**
+     * Tests {@code person} against the phone, email and address keywords only.
+     * Used for persons already known to match the name keywords and the tags.
+     */
+    public boolean testContactDetails(Person person) {
+        return hasNonTagMatch(person);
+    }
+
     /**
      * Checks for FULL name keyword matches between the person's name and the provided keywords.
      * True if list is empty.
@@ -63,15 +77,34 @@ public class ContactContainsFieldsPredicate implements Predicate<Person> {
      * Checks that the person contains all the tags specified
      */
     private boolean hasTagMatch(Person person) {
-        return tags.stream()
-                .map(Tag::new)
-                .allMatch(tag -> person.getTags().contains(tag));
+        return person.getTags().containsAll(tagSet);
     }
 
     public void setNameKeywords(List<String> nameKeywords) {
         this.nameKeywords = nameKeywords;
     }
 
+    public List<String> getNameKeywords() {
+        return nameKeywords;
+    }
+
+    /**
+     * Returns the phone, email and address keywords that are specified.
+     */
+    public Map<ContactDetail, String> getContactDetailKeywords() {
+        Map<ContactDetail, String> keywords = new EnumMap<>(ContactDetail.class);
+        if (!phoneKeyword.equals(EMPTY_FIELD)) {
+            keywords.put(ContactDetail.PHONE, phoneKeyword);
+        }
+        if (!emailKeyword.equals(EMPTY_FIELD)) {
+            keywords.put(ContactDetail.EMAIL, emailKeyword);
+        }
+        if (!addressKeyword.equals(EMPTY_FIELD)) {
+            keywords.put(ContactDetail.ADDRESS, addressKeyword);
+        }
+        return keywords;
+    }
+
     public void setPhoneKeyword(String phoneKeyword) {
         this.phoneKeyword = phoneKeyword;
     }
@@ -86,6 +119,14 @@ public class ContactContainsFieldsPredicate implements Predicate<Person> {
 
     public void setTagKeywords(List<String> tags) {
         this.tags = tags;
+        this.tagSet = tags.stream().map(Tag::of).collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the tags that a person must all have to match.
+     */
+    public Set<Tag> getTags() {
+        return tagSet;
     }
 
     /**
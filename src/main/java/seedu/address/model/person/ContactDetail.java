@@ -0,0 +1,25 @@
+package seedu.address.model.person;
+
+import java.util.function.Function;
+
+/**
+ * The fields of a {@code Person} that are searched for substrings.
+ */
+public enum ContactDetail {
+    PHONE(person -> person.getPhone().value),
+    EMAIL(person -> person.getEmail().value),
+    ADDRESS(person -> person.getAddress().value);
+
+    private final Function<Person, String> valueGetter;
+
+    ContactDetail(Function<Person, String> valueGetter) {
+        this.valueGetter = valueGetter;
+    }
+
+    /**
+     * Returns the value of this field of {@code person}.
+     */
+    public String getValue(Person person) {
+        return valueGetter.apply(person);
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -30,6 +32,8 @@ public class Email {
 
     public final String value;
 
+    private final String sortKey;
+
     /**
      * Constructs an {@code Email}.
      *
@@ -39,6 +43,14 @@ public class Email {
         requireNonNull(email);
         checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email;
+        sortKey = StringUtil.toCaseInsensitiveSortKey(value);
+    }
+
+    /**
+     * Returns the key that orders emails alphabetically, ignoring case.
+     */
+    public String getSortKey() {
+        return sortKey;
     }
 
     /**
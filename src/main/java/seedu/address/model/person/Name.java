@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +22,8 @@ public class Name {
 
     public final String fullName;
 
+    private final String sortKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,6 +33,14 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        sortKey = StringUtil.toCaseInsensitiveSortKey(fullName);
+    }
+
+    /**
+     * Returns the key that orders names alphabetically, ignoring case.
+     */
+    public String getSortKey() {
+        return sortKey;
     }
 
     /**
@@ -0,0 +1,76 @@
+package seedu.address.model.person;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Keeps track of the {@code Person}s whose name contains each word, ignoring case.
+ * Persons whose name contains any of several words can then be found without checking the name of every person.
+ * Words are split and compared the same way as {@link StringUtil#containsWordIgnoreCase},
+ * whatever the default locale.
+ */
+public class NameTokenIndex {
+
+    private final Map<String, Set<Person>> tokenPersonSetMap = new HashMap<>();
+
+    /**
+     * Adds {@code person} under each word of their name.
+     */
+    public void addPerson(Person person) {
+        for (String token : getTokens(person)) {
+            tokenPersonSetMap.computeIfAbsent(token, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from under each word of their name.
+     */
+    public void removePerson(Person person) {
+        for (String token : getTokens(person)) {
+            Set<Person> persons = tokenPersonSetMap.get(token);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                tokenPersonSetMap.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(Collection<Person> persons) {
+        tokenPersonSetMap.clear();
+        persons.forEach(this::addPerson);
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a full word, ignoring case.
+     *
+     * @param keywords single words, which cannot be empty.
+     */
+    public Set<Person> getPersonsWithAnyKeyword(Collection<String> keywords) {
+        Set<Person> persons = new HashSet<>();
+        for (String keyword : keywords) {
+            String token = StringUtil.toCaseInsensitiveSortKey(keyword.trim());
+            persons.addAll(tokenPersonSetMap.getOrDefault(token, Set.of()));
+        }
+        return persons;
+    }
+
+    private static Set<String> getTokens(Person person) {
+        Set<String> tokens = new HashSet<>();
+        for (String token : person.getName().fullName.split("\\s+")) {
+            tokens.add(StringUtil.toCaseInsensitiveSortKey(token));
+        }
+        return tokens;
+    }
+
+}
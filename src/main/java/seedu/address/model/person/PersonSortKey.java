@@ -0,0 +1,31 @@
+package seedu.address.model.person;
+
+import java.util.function.Function;
+
+/**
+ * The fields of a {@code Person} that the address book can be permanently sorted by.
+ */
+public enum PersonSortKey {
+    NAME("name", person -> person.getName().getSortKey()),
+    ADDRESS("address", person -> person.getAddress().getSortKey()),
+    EMAIL("email", person -> person.getEmail().getSortKey());
+
+    private final String fieldName;
+    private final Function<Person, String> keyGetter;
+
+    PersonSortKey(String fieldName, Function<Person, String> keyGetter) {
+        this.fieldName = fieldName;
+        this.keyGetter = keyGetter;
+    }
+
+    /**
+     * Returns the key of this field of {@code person}, which orders persons alphabetically by the field.
+     */
+    public String getKey(Person person) {
+        return keyGetter.apply(person);
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+}
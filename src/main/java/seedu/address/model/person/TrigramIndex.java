@@ -0,0 +1,117 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Keeps track of the {@code Person}s whose {@code ContactDetail} contains each trigram, i.e. each substring of three
+ * characters, ignoring case. Every person whose field contains a keyword of at least three characters has all the
+ * trigrams of the keyword, so the persons that may contain the keyword can be found by intersecting the persons
+ * under each of its trigrams. The persons found must still be checked, as they may have the trigrams apart.
+ */
+public class TrigramIndex {
+
+    /*
+     * Estimated heap usage of the index on a 64-bit JVM with compressed references. Each trigram costs a map entry,
+     * its key and an empty HashSet, and each person under a trigram costs an entry in that HashSet.
+     */
+    private static final long BYTES_PER_TRIGRAM = 160;
+    private static final long BYTES_PER_POSTING = 40;
+
+    private static final int TRIGRAM_LENGTH = 3;
+
+    private final ContactDetail contactDetail;
+    private final Map<String, Set<Person>> trigramPersonSetMap = new HashMap<>();
+    private long postingCount;
+
+    public TrigramIndex(ContactDetail contactDetail) {
+        this.contactDetail = contactDetail;
+    }
+
+    /**
+     * Adds {@code person} under each trigram of their field.
+     */
+    public void addPerson(Person person) {
+        for (String trigram : getTrigrams(contactDetail.getValue(person).toLowerCase())) {
+            if (trigramPersonSetMap.computeIfAbsent(trigram, unused -> new HashSet<>()).add(person)) {
+                postingCount++;
+            }
+        }
+    }
+
+    /**
+     * Removes {@code person} from under each trigram of their field.
+     */
+    public void removePerson(Person person) {
+        for (String trigram : getTrigrams(contactDetail.getValue(person).toLowerCase())) {
+            Set<Person> persons = trigramPersonSetMap.get(trigram);
+            if (persons == null || !persons.remove(person)) {
+                continue;
+            }
+            postingCount--;
+            if (persons.isEmpty()) {
+                trigramPersonSetMap.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(Collection<Person> persons) {
+        trigramPersonSetMap.clear();
+        postingCount = 0;
+        persons.forEach(this::addPerson);
+    }
+
+    /**
+     * Returns the persons whose field may contain {@code keyword}, ignoring case, which includes every person
+     * whose field does contain it. Returns an empty {@code Optional} if {@code keyword} is too short to be looked up,
+     * in which case any person may contain it.
+     */
+    public Optional<Set<Person>> getPersonsPossiblyContaining(String keyword) {
+        Set<String> trigrams = getTrigrams(keyword.toLowerCase());
+        if (trigrams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Set<Person>> postings = new ArrayList<>();
+        for (String trigram : trigrams) {
+            Set<Person> persons = trigramPersonSetMap.get(trigram);
+            if (persons == null) {
+                return Optional.of(new HashSet<>());
+            }
+            postings.add(persons);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        Set<Person> candidates = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postings.get(i));
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns an estimate of the number of bytes of heap used by the index, not counting the persons themselves.
+     */
+    public long estimateMemoryUsage() {
+        return trigramPersonSetMap.size() * BYTES_PER_TRIGRAM + postingCount * BYTES_PER_POSTING;
+    }
+
+    private static Set<String> getTrigrams(String value) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= value.length(); i++) {
+            trigrams.add(value.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+}
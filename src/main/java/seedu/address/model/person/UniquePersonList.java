@@ -1,16 +1,24 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.hasUniqueKeys;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.BatchableObservableList;
+import seedu.address.model.util.ListEdit;
+import seedu.address.model.util.ParallelSort;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -25,16 +33,25 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<Person> internalList = new BatchableObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /*
+     * Secondary index on the identity fields used by Person#isSamePerson(Person).
+     * Every person contributes a (name, phone) key and a (name, email) key, and two persons are the same person
+     * iff they share at least one key. As Phone and Email never equal each other, both kinds of keys can share
+     * one map. Keys are counted rather than stored as a set so that the index stays correct even if two persons
+     * in the list happen to share a key.
+     */
+    private final Map<List<Object>, Integer> identityIndex = new HashMap<>();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return getIdentityKeys(toCheck).stream().anyMatch(identityIndex::containsKey);
     }
 
     /**
@@ -47,6 +64,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        addToIndex(toAdd);
     }
 
     /**
@@ -67,6 +85,8 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        removeFromIndex(target);
+        addToIndex(editedPerson);
     }
 
     /**
@@ -78,11 +98,14 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        removeFromIndex(toRemove);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
     }
 
     /**
@@ -96,13 +119,55 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        identityIndex.clear();
+        persons.forEach(this::addToIndex);
+    }
+
+    /**
+     * Sorts the address book's internal list by the keys of {@code sortKeys}, which are compared in order.
+     * The keys of each person are extracted once and sorted on all cores, and the order is applied in one change.
+     */
+    public void sortPersons(List<PersonSortKey> sortKeys) {
+        requireAllNonNull(sortKeys);
+        List<Function<Person, String>> keyExtractors = new ArrayList<>();
+        for (PersonSortKey sortKey : sortKeys) {
+            keyExtractors.add(sortKey::getKey);
+        }
+        internalList.reorder(ParallelSort.sortOrder(internalList, keyExtractors));
+    }
+
+    /**
+     * Applies {@code edit}, which must have been made to a list equal to this list, keeping the index in sync.
+     *
+     * @return the persons removed from the list by the edit.
+     */
+    public List<Person> applyEdit(ListEdit<Person> edit) {
+        requireNonNull(edit);
+        List<Person> removedPersons = internalList.applyEdit(edit);
+        removedPersons.forEach(this::removeFromIndex);
+        edit.getAdded().forEach(this::addToIndex);
+        return removedPersons;
+    }
+
+    /**
+     * Adds a listener that is notified of every edit made to the list, as soon as it is made.
+     */
+    public void addEditListener(Consumer<? super ListEdit<Person>> listener) {
+        internalList.addEditListener(listener);
+    }
+
+    /**
+     * Starts a batch of changes to the list, which are published to its listeners as one change when it ends.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
     }
 
     /**
-     * Sorts the address book's internal list according to the given comparator
+     * Ends a batch of changes started by {@link #beginBatch()}.
      */
-    public void sortPersons(Comparator<Person> c) {
-        internalList.sort(c);
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -130,17 +195,40 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.hashCode();
     }
 
+    /**
+     * Returns the keys under which {@code person} is recorded in the identity index.
+     */
+    private static List<List<Object>> getIdentityKeys(Person person) {
+        return List.of(getNameAndPhone(person), getNameAndEmail(person));
+    }
+
+    private static List<Object> getNameAndPhone(Person person) {
+        return List.of(person.getName(), person.getPhone());
+    }
+
+    private static List<Object> getNameAndEmail(Person person) {
+        return List.of(person.getName(), person.getEmail());
+    }
+
+    /**
+     * Records the identity keys of {@code person} in the identity index.
+     */
+    private void addToIndex(Person person) {
+        getIdentityKeys(person).forEach(key -> identityIndex.merge(key, 1, Integer::sum));
+    }
+
+    /**
+     * Removes one occurrence of each identity key of {@code person} from the identity index.
+     */
+    private void removeFromIndex(Person person) {
+        getIdentityKeys(person).forEach(key ->
+                identityIndex.computeIfPresent(key, (unused, count) -> count == 1 ? null : count - 1));
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return hasUniqueKeys(persons, UniquePersonList::getNameAndPhone, UniquePersonList::getNameAndEmail);
     }
 }
@@ -1,5 +1,9 @@
 package seedu.address.model.reminder;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 
 /**
@@ -15,4 +19,14 @@ public interface ReadOnlyReminders {
 
     public boolean hasRemindersDue();
 
+    /**
+     * Returns the reminders that are due today or earlier, ordered by reminder date.
+     */
+    List<Reminder> getRemindersDue();
+
+    /**
+     * Returns the earliest date after {@code date} on which a reminder is due, if there is one.
+     */
+    Optional<LocalDate> getNextReminderDateAfter(LocalDate date);
+
 }
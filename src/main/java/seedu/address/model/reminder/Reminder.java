@@ -32,6 +32,15 @@ public class Reminder {
         this.reminderDate = new Time(date);
     }
 
+    /**
+     * @param eventToRemind the event that you want the reminder for
+     * @param reminderDate the starting date of when you will start getting reminders for this event
+     */
+    public Reminder(Event eventToRemind, Time reminderDate) {
+        this.eventToRemind = eventToRemind;
+        this.reminderDate = reminderDate;
+    }
+
     public Event getEventToRemind() {
         return eventToRemind;
     }
@@ -1,16 +1,31 @@
 package seedu.address.model.reminder;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.hasUniqueKeys;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.event.Event;
 import seedu.address.model.reminder.exceptions.DuplicateReminderException;
 import seedu.address.model.reminder.exceptions.ReminderNotFoundException;
+import seedu.address.model.util.BatchableObservableList;
+import seedu.address.model.util.ListEdit;
 
 /**
  * A list of reminders that enforces uniqueness between its elements and does not allow nulls.
@@ -26,16 +41,84 @@ import seedu.address.model.reminder.exceptions.ReminderNotFoundException;
  */
 public class UniqueRemindersList implements Iterable<Reminder> {
 
-    private final ObservableList<Reminder> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<Reminder> internalList = new BatchableObservableList<>();
     private final ObservableList<Reminder> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /*
+     * Secondary index from the event of each reminder in the list to the reminder. Reminder#isSameReminder(Reminder)
+     * compares the events of the reminders, so duplicate checks and the reminder of an event are a single lookup.
+     */
+    private final Map<Event, Reminder> eventIndex = new HashMap<>();
+
+    /*
+     * Secondary indices of the reminders in the list ordered by reminder date and by the time of their event.
+     * Reminders that share a time are kept in one bucket. The earliest reminders are due first, and the reminders
+     * of the earliest events become obsolete first, so both can be found without visiting the other reminders.
+     */
+    private final NavigableMap<LocalDateTime, List<Reminder>> reminderDateIndex = new TreeMap<>();
+    private final NavigableMap<LocalDateTime, List<Reminder>> eventTimeIndex = new TreeMap<>();
+
+    // The indices are updated before each change to the list is published, so that its listeners can query them.
+
     /**
      * Returns true if the list contains an equivalent reminder as the given argument.
      */
     public boolean contains(Reminder toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameReminder);
+        return eventIndex.containsKey(toCheck.getEventToRemind());
+    }
+
+    /**
+     * Returns the reminder in the list for {@code event}, if there is one.
+     */
+    public Optional<Reminder> getReminderOfEvent(Event event) {
+        requireNonNull(event);
+        return Optional.ofNullable(eventIndex.get(event));
+    }
+
+    /**
+     * Returns true if any reminder in the list is due on or before {@code date}.
+     */
+    public boolean hasRemindersDue(LocalDate date) {
+        requireNonNull(date);
+        return !reminderDateIndex.isEmpty() && !reminderDateIndex.firstKey().toLocalDate().isAfter(date);
+    }
+
+    /**
+     * Returns the reminders in the list that are due on or before {@code date}, ordered by reminder date.
+     */
+    public List<Reminder> getRemindersDue(LocalDate date) {
+        requireNonNull(date);
+        List<Reminder> remindersDue = new ArrayList<>();
+        reminderDateIndex.headMap(date.plusDays(1).atStartOfDay(), false).values().forEach(remindersDue::addAll);
+        return remindersDue;
+    }
+
+    /**
+     * Returns the earliest date after {@code date} on which a reminder in the list is due, if there is one.
+     */
+    public Optional<LocalDate> getNextReminderDateAfter(LocalDate date) {
+        requireNonNull(date);
+        return Optional.ofNullable(reminderDateIndex.ceilingKey(date.plusDays(1).atStartOfDay()))
+                .map(LocalDateTime::toLocalDate);
+    }
+
+    /**
+     * Removes the reminders in the list whose event is before {@code time}.
+     * The removals are published to listeners as one change.
+     */
+    public void removeRemindersOfEventsBefore(LocalDateTime time) {
+        requireNonNull(time);
+        NavigableMap<LocalDateTime, List<Reminder>> obsoleteBuckets = eventTimeIndex.headMap(time, false);
+        if (obsoleteBuckets.isEmpty()) {
+            return;
+        }
+
+        Set<Reminder> obsoleteReminders = Collections.newSetFromMap(new IdentityHashMap<>());
+        obsoleteBuckets.values().forEach(obsoleteReminders::addAll);
+        obsoleteReminders.forEach(this::removeFromIndex);
+        internalList.removeAll(obsoleteReminders);
     }
 
     /**
@@ -47,6 +130,7 @@ public class UniqueRemindersList implements Iterable<Reminder> {
         if (contains(toAdd)) {
             throw new DuplicateReminderException();
         }
+        addToIndex(toAdd);
         internalList.add(toAdd);
     }
 
@@ -67,6 +151,8 @@ public class UniqueRemindersList implements Iterable<Reminder> {
             throw new DuplicateReminderException();
         }
 
+        removeFromIndex(internalList.get(index));
+        addToIndex(editedReminder);
         internalList.set(index, editedReminder);
     }
 
@@ -76,13 +162,18 @@ public class UniqueRemindersList implements Iterable<Reminder> {
      */
     public void remove(Reminder toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new ReminderNotFoundException();
         }
+        // the index holds the instance in the list, which may be a different but equal instance to toRemove
+        removeFromIndex(internalList.get(index));
+        internalList.remove(index);
     }
 
     public void setReminders(UniqueRemindersList replacement) {
         requireNonNull(replacement);
+        rebuildIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -96,9 +187,43 @@ public class UniqueRemindersList implements Iterable<Reminder> {
             throw new DuplicateReminderException();
         }
 
+        rebuildIndex(reminders);
         internalList.setAll(reminders);
     }
 
+    /**
+     * Applies {@code edit}, which must have been made to a list equal to this list, keeping the indices in sync.
+     */
+    public void applyEdit(ListEdit<Reminder> edit) {
+        requireNonNull(edit);
+        int removedCount = edit.getRemoved().size();
+        List.copyOf(internalList.subList(edit.getIndex(), edit.getIndex() + removedCount))
+                .forEach(this::removeFromIndex);
+        edit.getAdded().forEach(this::addToIndex);
+        internalList.applyEdit(edit);
+    }
+
+    /**
+     * Adds a listener that is notified of every edit made to the list, as soon as it is made.
+     */
+    public void addEditListener(Consumer<? super ListEdit<Reminder>> listener) {
+        internalList.addEditListener(listener);
+    }
+
+    /**
+     * Starts a batch of changes to the list, which are published to its listeners as one change when it ends.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -128,26 +253,37 @@ public class UniqueRemindersList implements Iterable<Reminder> {
      * Returns true if {@code reminders} contains only unique reminders.
      */
     private boolean remindersAreUnique(List<Reminder> reminders) {
-        for (int i = 0; i < reminders.size() - 1; i++) {
-            for (int j = i + 1; j < reminders.size(); j++) {
-                if (reminders.get(i).isSameReminder(reminders.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        // Reminder#isSameReminder(Reminder) compares the events of the reminders.
+        return hasUniqueKeys(reminders, Reminder::getEventToRemind);
     }
 
-    /**
-     * Returns true if there are active reminders.
-     */
-    public boolean hasRemindersDue() {
-        for (int i = 0; i < internalList.size(); i++) {
-            if (internalList.get(i).getReminderDate().getTime().toLocalDate().isEqual(LocalDate.now())
-                    || internalList.get(i).getReminderDate().getTime().toLocalDate().isBefore(LocalDate.now())) {
-                return true;
-            }
+    private void addToIndex(Reminder reminder) {
+        eventIndex.put(reminder.getEventToRemind(), reminder);
+        reminderDateIndex.computeIfAbsent(reminder.getReminderDate().getTime(), unused -> new ArrayList<>())
+                .add(reminder);
+        eventTimeIndex.computeIfAbsent(reminder.getEventToRemind().getTime().getTime(), unused -> new ArrayList<>())
+                .add(reminder);
+    }
+
+    private void removeFromIndex(Reminder reminder) {
+        eventIndex.remove(reminder.getEventToRemind());
+        removeFromBucket(reminderDateIndex, reminder.getReminderDate().getTime(), reminder);
+        removeFromBucket(eventTimeIndex, reminder.getEventToRemind().getTime().getTime(), reminder);
+    }
+
+    private static void removeFromBucket(NavigableMap<LocalDateTime, List<Reminder>> index, LocalDateTime time,
+            Reminder reminder) {
+        List<Reminder> remindersAtTime = index.get(time);
+        remindersAtTime.remove(reminder);
+        if (remindersAtTime.isEmpty()) {
+            index.remove(time);
         }
-        return false;
+    }
+
+    private void rebuildIndex(List<Reminder> reminders) {
+        eventIndex.clear();
+        reminderDateIndex.clear();
+        eventTimeIndex.clear();
+        reminders.forEach(this::addToIndex);
     }
 }
@@ -3,9 +3,16 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * Tags should be obtained through {@link #of(String)}, which returns the same {@code Tag} for the same name,
+ * so that each distinct tag name is only validated and stored once.
  */
 public class Tag {
 
@@ -13,6 +20,14 @@ public class Tag {
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
     public static final String ALL_TAGS_IDENTIFIER = "*";
 
+    /** Tags are no longer pooled once this many distinct tag names have been seen. */
+    private static final int POOL_CAPACITY = 65536;
+
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    /** Canonical {@code Tag} of each lower-cased tag name given to {@link #of(String)}. Only holds valid names. */
+    private static final Map<String, Tag> POOL = new ConcurrentHashMap<>();
+
     /**
      * Unique tag object to identify a tag that equates to all tags a Person has.
      */
@@ -44,11 +59,53 @@ public class Tag {
         this.tagName = tagName.toLowerCase();
     }
 
+    /**
+     * Returns the {@code Tag} with the given name, which is shared with every other caller asking for that name
+     * in any case.
+     *
+     * @param tagName A valid tag name.
+     * @throws IllegalArgumentException if {@code tagName} is not a valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        // The pool only holds valid lower-cased names, so a name found in it needs no validation
+        Tag tag = POOL.get(tagName);
+        if (tag != null) {
+            return tag;
+        }
+
+        tag = new Tag(tagName);
+        Tag pooledTag = POOL.get(tag.tagName);
+        if (pooledTag != null) {
+            return pooledTag;
+        }
+        if (POOL.size() >= POOL_CAPACITY) {
+            return tag;
+        }
+        pooledTag = POOL.putIfAbsent(tag.tagName, tag);
+        return pooledTag == null ? tag : pooledTag;
+    }
+
+    /**
+     * Returns the {@code Tag} with the given name, or {@link #ALL_TAGS_TAG} if the wildcard is allowed and given.
+     *
+     * @param tagName A valid tag name or '*'.
+     * @param canBeWildcard Indicator for whether the wildcard tag is allowed in this field.
+     * @throws IllegalArgumentException if {@code tagName} is not a valid tag name.
+     */
+    public static Tag of(String tagName, boolean canBeWildcard) {
+        requireNonNull(tagName);
+        if (canBeWildcard && tagName.equals(ALL_TAGS_IDENTIFIER)) {
+            return ALL_TAGS_TAG;
+        }
+        return of(tagName);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return POOL.containsKey(test) || VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -58,7 +115,7 @@ public class Tag {
         if (test.equals(ALL_TAGS_IDENTIFIER) && canBeWildcard) {
             return true;
         }
-        return test.matches(VALIDATION_REGEX);
+        return isValidTagName(test);
     }
 
     @Override
@@ -19,6 +19,14 @@ public interface TagManager {
      */
     Set<Person> getPersonsUnderTag(Tag tag);
 
+    /**
+     * Returns a set of all {@code Person}s that has every tag in {@code tags}.
+     *
+     * @param tags tags that all persons we are looking for has. Cannot be empty.
+     * @return set of {@code Person}s that has all of {@code tags}.
+     */
+    Set<Person> getPersonsWithAllTags(Collection<Tag> tags);
+
     /**
      * Returns a set of all {@code Tag}s found in the {@code TagManager}.
      *
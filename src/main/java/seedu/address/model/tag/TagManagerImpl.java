@@ -1,5 +1,6 @@
 package seedu.address.model.tag;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -13,12 +14,14 @@ import seedu.address.model.person.Person;
 
 /**
  * Concrete implementation class of {@code TagManager} that uses a {@code HashMap}.
+ * Queries over several tags are answered by a {@code TagMembershipIndex} kept alongside the {@code HashMap}.
  */
 public class TagManagerImpl implements TagManager {
 
     private static final String MESSAGE_ERROR_PERSON_NOT_FOUND = "Person instance not found in tag manager!";
 
     private final Map<Tag, Set<Person>> tagPersonSetMap;
+    private final TagMembershipIndex membershipIndex = new TagMembershipIndex();
 
     public TagManagerImpl() {
         tagPersonSetMap = new HashMap<>();
@@ -29,6 +32,11 @@ public class TagManagerImpl implements TagManager {
         return tagPersonSetMap.get(tag) == null ? Set.of() : tagPersonSetMap.get(tag);
     }
 
+    @Override
+    public Set<Person> getPersonsWithAllTags(Collection<Tag> tags) {
+        return membershipIndex.getPersonsWithAllTags(tags);
+    }
+
     @Override
     public Set<Tag> getTags() {
         return tagPersonSetMap.keySet();
@@ -57,6 +65,7 @@ public class TagManagerImpl implements TagManager {
                 tagPersonSetMap.remove(oldTag);
             }
         }
+        membershipIndex.removePerson(person);
     }
 
     /**
@@ -70,6 +79,7 @@ public class TagManagerImpl implements TagManager {
                     .ifPresentOrElse(
                         set -> set.add(person), () -> tagPersonSetMap.put(newTag, new HashSet<>(List.of(person))));
         }
+        membershipIndex.addPerson(person);
     }
 
     @Override
@@ -91,6 +101,7 @@ public class TagManagerImpl implements TagManager {
     @Override
     public void clear() {
         tagPersonSetMap.clear();
+        membershipIndex.clear();
     }
 
     @Override
@@ -100,6 +111,7 @@ public class TagManagerImpl implements TagManager {
             newMap.put(tag, new HashSet<>(otherTagManager.getPersonsUnderTag(tag)));
         }
         tagPersonSetMap.putAll(newMap);
+        newMap.values().forEach(persons -> persons.forEach(membershipIndex::addPerson));
     }
 
     @Override
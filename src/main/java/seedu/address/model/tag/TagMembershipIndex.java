@@ -0,0 +1,110 @@
+package seedu.address.model.tag;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps track of the {@code Person}s under each {@code Tag} as a bitmap of person ordinals, so that the persons
+ * having all of several tags can be found by intersecting bitmaps instead of checking the tags of each person.
+ * Only persons with at least one tag are given an ordinal. The ordinal of a removed person is given to the next
+ * person added, so the bitmaps stay about as long as the number of tagged persons.
+ */
+class TagMembershipIndex {
+
+    private final Map<Person, Integer> personOrdinals = new HashMap<>();
+    private final List<Person> ordinalPersons = new ArrayList<>();
+    private final BitSet freeOrdinals = new BitSet();
+    private final Map<Tag, BitSet> tagOrdinals = new HashMap<>();
+
+    /**
+     * Adds {@code person} under each of its tags. Does nothing if {@code person} is already in the index.
+     */
+    void addPerson(Person person) {
+        if (person.getTags().isEmpty() || personOrdinals.containsKey(person)) {
+            return;
+        }
+
+        int ordinal = freeOrdinals.nextSetBit(0);
+        if (ordinal < 0) {
+            ordinal = ordinalPersons.size();
+            ordinalPersons.add(person);
+        } else {
+            freeOrdinals.clear(ordinal);
+            ordinalPersons.set(ordinal, person);
+        }
+        personOrdinals.put(person, ordinal);
+
+        for (Tag tag : person.getTags()) {
+            tagOrdinals.computeIfAbsent(tag, t -> new BitSet()).set(ordinal);
+        }
+    }
+
+    /**
+     * Removes {@code person} from under each of its tags. Does nothing if {@code person} is not in the index.
+     */
+    void removePerson(Person person) {
+        Integer ordinal = personOrdinals.remove(person);
+        if (ordinal == null) {
+            return;
+        }
+
+        for (Tag tag : person.getTags()) {
+            BitSet ordinals = tagOrdinals.get(tag);
+            ordinals.clear(ordinal);
+            if (ordinals.isEmpty()) {
+                tagOrdinals.remove(tag);
+            }
+        }
+        ordinalPersons.set(ordinal, null);
+        freeOrdinals.set(ordinal);
+    }
+
+    /**
+     * Returns the persons that have every tag in {@code tags}, which must not be empty.
+     * The bitmaps are intersected from the smallest, so that the intersection stops as soon as it is empty.
+     */
+    Set<Person> getPersonsWithAllTags(Collection<Tag> tags) {
+        assert !tags.isEmpty();
+
+        List<BitSet> bitmaps = new ArrayList<>();
+        for (Tag tag : tags) {
+            BitSet ordinals = tagOrdinals.get(tag);
+            if (ordinals == null) {
+                return new HashSet<>();
+            }
+            bitmaps.add(ordinals);
+        }
+        bitmaps.sort(Comparator.comparingInt(BitSet::cardinality));
+
+        BitSet result = (BitSet) bitmaps.get(0).clone();
+        for (int i = 1; i < bitmaps.size() && !result.isEmpty(); i++) {
+            result.and(bitmaps.get(i));
+        }
+
+        Set<Person> persons = new HashSet<>();
+        for (int ordinal = result.nextSetBit(0); ordinal >= 0; ordinal = result.nextSetBit(ordinal + 1)) {
+            persons.add(ordinalPersons.get(ordinal));
+        }
+        return persons;
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    void clear() {
+        personOrdinals.clear();
+        ordinalPersons.clear();
+        freeOrdinals.clear();
+        tagOrdinals.clear();
+    }
+
+}
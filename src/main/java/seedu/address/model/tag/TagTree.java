@@ -1,7 +1,12 @@
 package seedu.address.model.tag;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+
+import seedu.address.model.ChangeTrackable;
 
 /**
  * Abstract class that keeps track of the structure of {@code Tag} relations.
@@ -9,7 +14,34 @@ import java.util.Set;
  * When relationships between {@code Tag}s are modified, the changes are updated here so that all parts of the program
  * have access to the most updated {@code Tag} relations.
  */
-public abstract class TagTree implements ReadOnlyTagTree {
+public abstract class TagTree implements ReadOnlyTagTree, ChangeTrackable {
+
+    private final List<Consumer<? super TagTreeEdit>> editListeners = new ArrayList<>();
+
+    /**
+     * Adds a listener that is notified of every edit made to the tag tree, as soon as it is made.
+     */
+    public void addEditListener(Consumer<? super TagTreeEdit> listener) {
+        editListeners.add(listener);
+    }
+
+    /**
+     * Notifies the edit listeners of {@code edit}. Implementations must publish every sub-tag they add or remove.
+     */
+    protected void publishEdit(TagTreeEdit edit) {
+        editListeners.forEach(listener -> listener.accept(edit));
+    }
+
+    /**
+     * Applies {@code edit}, which must have been made to a tag tree equal to this one.
+     */
+    public void applyEdit(TagTreeEdit edit) {
+        if (edit.isAddition()) {
+            addSubTagTo(edit.getSuperTag(), edit.getSubTag());
+        } else {
+            removeSubTagFrom(edit.getSuperTag(), edit.getSubTag());
+        }
+    }
 
     @Override
     public abstract Map<Tag, Set<Tag>> getTagSubTagMap();
@@ -38,6 +70,12 @@ public abstract class TagTree implements ReadOnlyTagTree {
      */
     public abstract Set<Tag> getSubTagsRecursive(Tag tag);
 
+    /**
+     * Returns all super-tags above {@code tag} in the tag-hierarchy.
+     * I.e. All super-tags of {@code tag}, all super-tags of those super-tags, etc.
+     */
+    public abstract Set<Tag> getSuperTagsRecursive(Tag tag);
+
     /**
      * Adds the {@code subTag} as a sub-tag of the {@code superTag}.
      * This method should check for cyclic dependencies and prevent linking a lower-level tag as a
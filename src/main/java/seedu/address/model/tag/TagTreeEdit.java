@@ -0,0 +1,76 @@
+package seedu.address.model.tag;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * A single change to a tag tree: the addition or removal of {@code subTag} as a direct sub-tag of {@code superTag}.
+ * Every change to a tag tree, including the deletion of a tag, is made of such edits.
+ */
+public class TagTreeEdit {
+
+    private final boolean isAddition;
+    private final Tag superTag;
+    private final Tag subTag;
+
+    private TagTreeEdit(boolean isAddition, Tag superTag, Tag subTag) {
+        requireAllNonNull(superTag, subTag);
+        this.isAddition = isAddition;
+        this.superTag = superTag;
+        this.subTag = subTag;
+    }
+
+    /**
+     * Returns an edit that adds {@code subTag} as a sub-tag of {@code superTag}.
+     */
+    public static TagTreeEdit addSubTag(Tag superTag, Tag subTag) {
+        return new TagTreeEdit(true, superTag, subTag);
+    }
+
+    /**
+     * Returns an edit that removes {@code subTag} from the sub-tags of {@code superTag}.
+     */
+    public static TagTreeEdit removeSubTag(Tag superTag, Tag subTag) {
+        return new TagTreeEdit(false, superTag, subTag);
+    }
+
+    public boolean isAddition() {
+        return isAddition;
+    }
+
+    public Tag getSuperTag() {
+        return superTag;
+    }
+
+    public Tag getSubTag() {
+        return subTag;
+    }
+
+    /**
+     * Returns the edit that undoes this edit.
+     */
+    public TagTreeEdit invert() {
+        return new TagTreeEdit(!isAddition, superTag, subTag);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagTreeEdit // instanceof handles nulls
+                && isAddition == ((TagTreeEdit) other).isAddition
+                && superTag.equals(((TagTreeEdit) other).superTag)
+                && subTag.equals(((TagTreeEdit) other).subTag));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isAddition, superTag, subTag);
+    }
+
+    @Override
+    public String toString() {
+        return (isAddition ? "Add " : "Remove ") + subTag + " as a sub-tag of " + superTag;
+    }
+
+}
@@ -1,10 +1,11 @@
 package seedu.address.model.tag;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Consumer;
 
 import seedu.address.model.tag.exceptions.TagCyclicDependencyException;
 
@@ -20,6 +21,10 @@ public class TagTreeImpl extends TagTree {
 
     private Map<Tag, Set<Tag>> tagSubTagMap;
     private Map<Tag, Set<Tag>> tagSuperTagMap;
+    private long modificationCount;
+
+    // All tags below each tag queried since the tags below it last changed
+    private final Map<Tag, Set<Tag>> subTagsRecursiveCache = new HashMap<>();
 
     /**
      * Creates a clean TagTreeImpl.
@@ -33,7 +38,7 @@ public class TagTreeImpl extends TagTree {
      * Copies the argument {@code toCopy} tree into this tree.
      */
     public TagTreeImpl(ReadOnlyTagTree toCopy) {
-        super();
+        this();
         copy(toCopy);
     }
 
@@ -45,20 +50,19 @@ public class TagTreeImpl extends TagTree {
         this.tagSuperTagMap = tagSuperTagMap;
     }
 
+    /**
+     * Copies the mapping of {@code toCopy} into this tree, only removing or adding the sub-tags that differ.
+     */
     @Override
     public void copy(ReadOnlyTagTree toCopy) {
-        tagSubTagMap = new HashMap<>();
-        tagSuperTagMap = new HashMap<>();
-
-        toCopy.getTagSubTagMap().entrySet().stream().forEach(entry -> {
-            // Adds a copy of the key-value mapping to the subtag map.
-            tagSubTagMap.put(entry.getKey(), new HashSet<>(Set.copyOf(entry.getValue())));
-
-            // For each sub-tag, adds an equivalent reverse mapping to the super tag map.
-            entry.getValue().stream().forEach(subTag -> tagSuperTagMap.merge(
-                subTag, new HashSet<>(Set.of(entry.getKey())), (set1, set2) -> {
-                    set1.addAll(set2);
-                    return set1; })); });
+        Map<Tag, Set<Tag>> newTagSubTagMap = toCopy.getTagSubTagMap();
+        subTagsRecursiveCache.clear();
+
+        getTagSubTagMap().forEach((superTag, subTags) -> subTags.stream()
+                .filter(subTag -> !newTagSubTagMap.getOrDefault(superTag, Set.of()).contains(subTag))
+                .forEach(subTag -> removeEdge(superTag, subTag)));
+        // The sub-tags left are all in the other tree, so adding its sub-tags cannot create a cycle
+        newTagSubTagMap.forEach((superTag, subTags) -> subTags.forEach(subTag -> addEdge(superTag, subTag)));
     }
 
     @Override
@@ -90,19 +94,63 @@ public class TagTreeImpl extends TagTree {
 
     @Override
     public Set<Tag> getSubTagsRecursive(Tag tag) {
-        Set<Tag> finalSet = new HashSet<>();
-        Consumer<Tag> consumer = new Consumer<Tag>() {
-            @Override
-            public void accept(Tag tag) {
-                if (tagSubTagMap.get(tag) == null) {
-                    return;
-                }
-                finalSet.addAll(tagSubTagMap.get(tag));
-                tagSubTagMap.get(tag).forEach(subtag -> accept(subtag));
+        return new HashSet<>(getCachedSubTagsRecursive(tag));
+    }
+
+    /**
+     * Returns all tags below {@code tag}, from the cache if they have been found since they last changed.
+     * Each tag below {@code tag} is visited once however many paths lead to it,
+     * and the tags below any tag found in the cache are not visited again.
+     */
+    private Set<Tag> getCachedSubTagsRecursive(Tag tag) {
+        Set<Tag> cachedSubTags = subTagsRecursiveCache.get(tag);
+        if (cachedSubTags != null) {
+            return cachedSubTags;
+        }
+
+        Set<Tag> subTags = new HashSet<>();
+        Deque<Tag> tagsToVisit = new ArrayDeque<>(tagSubTagMap.getOrDefault(tag, Set.of()));
+        while (!tagsToVisit.isEmpty()) {
+            Tag subTag = tagsToVisit.pop();
+            if (!subTags.add(subTag)) {
+                continue;
+            }
+            Set<Tag> subTagsBelow = subTagsRecursiveCache.get(subTag);
+            if (subTagsBelow != null) {
+                subTags.addAll(subTagsBelow);
+            } else {
+                tagsToVisit.addAll(tagSubTagMap.getOrDefault(subTag, Set.of()));
             }
-        };
-        consumer.accept(tag);
-        return finalSet;
+        }
+        subTagsRecursiveCache.put(tag, subTags);
+        return subTags;
+    }
+
+    /**
+     * Returns all tags above {@code tag} in the tag hierarchy, visiting each of them once.
+     */
+    @Override
+    public Set<Tag> getSuperTagsRecursive(Tag tag) {
+        Set<Tag> superTags = new HashSet<>();
+        Deque<Tag> tagsToVisit = new ArrayDeque<>(tagSuperTagMap.getOrDefault(tag, Set.of()));
+        while (!tagsToVisit.isEmpty()) {
+            Tag superTag = tagsToVisit.pop();
+            if (superTags.add(superTag)) {
+                tagsToVisit.addAll(tagSuperTagMap.getOrDefault(superTag, Set.of()));
+            }
+        }
+        return superTags;
+    }
+
+    /**
+     * Drops the cached tags below {@code tag} and below every tag above it, after the tags below {@code tag} change.
+     */
+    private void invalidateSubTagsRecursive(Tag tag) {
+        if (subTagsRecursiveCache.isEmpty()) {
+            return;
+        }
+        subTagsRecursiveCache.remove(tag);
+        getSuperTagsRecursive(tag).forEach(subTagsRecursiveCache::remove);
     }
 
     @Override
@@ -112,61 +160,80 @@ public class TagTreeImpl extends TagTree {
         if (isSubTagOf(subTag, superTag)) {
             throw new TagCyclicDependencyException(superTag, subTag);
         }
-        addToMapSet(tagSubTagMap, superTag, subTag);
+        addEdge(superTag, subTag);
+    }
+
+    /**
+     * Adds {@code subTag} as a sub-tag of {@code superTag} and publishes the edit, unless it already is one.
+     */
+    private void addEdge(Tag superTag, Tag subTag) {
+        if (!addToMapSet(tagSubTagMap, superTag, subTag)) {
+            return;
+        }
         addToMapSet(tagSuperTagMap, subTag, superTag);
+        invalidateSubTagsRecursive(superTag);
+        modificationCount++;
+        publishEdit(TagTreeEdit.addSubTag(superTag, subTag));
     }
 
     /**
      * Adds the {@code tagToAdd} to the set of sub-tags assigned to {@code key}.
      * Adds a new HashSet if the {@code key} did not have any sub-tags.
+     *
+     * @return true if {@code tagToAdd} was not assigned to {@code key} yet.
      */
-    private void addToMapSet(Map<Tag, Set<Tag>> map, Tag key, Tag tagToAdd) {
-        map.merge(key, new HashSet<>(Set.of(tagToAdd)), (set1, set2) -> {
-            set1.addAll(set2);
-            return set1; });
+    private boolean addToMapSet(Map<Tag, Set<Tag>> map, Tag key, Tag tagToAdd) {
+        return map.computeIfAbsent(key, unused -> new HashSet<>()).add(tagToAdd);
     }
 
     @Override
     public void removeSubTagFrom(Tag superTag, Tag subTag) {
         if (subTag.equals(Tag.ALL_TAGS_TAG)) {
-            removeSubTagsFrom(superTag, tagSubTagMap.get(superTag));
+            removeSubTagsFrom(superTag, getSubTagsOf(superTag));
             return;
         }
 
-        removeEntryFromMap(tagSubTagMap, superTag, subTag);
+        removeEdge(superTag, subTag);
+    }
+
+    /**
+     * Removes {@code subTag} from the sub-tags of {@code superTag} and publishes the edit, if it is one of them.
+     */
+    private void removeEdge(Tag superTag, Tag subTag) {
+        if (!removeEntryFromMap(tagSubTagMap, superTag, subTag)) {
+            return;
+        }
         removeEntryFromMap(tagSuperTagMap, subTag, superTag);
+        invalidateSubTagsRecursive(superTag);
+        modificationCount++;
+        publishEdit(TagTreeEdit.removeSubTag(superTag, subTag));
     }
 
     /**
      * Removes {@code tagToRemove} from the set corresponding to the {@code key}.
      * If the resulting set is empty, the key-value pair is removed from the map.
+     *
+     * @return true if {@code tagToRemove} was in the set.
      */
-    private void removeEntryFromMap(Map<Tag, Set<Tag>> map, Tag key, Tag tagToRemove) {
-        map.get(key).remove(tagToRemove);
-        if (map.get(key).isEmpty()) {
+    private boolean removeEntryFromMap(Map<Tag, Set<Tag>> map, Tag key, Tag tagToRemove) {
+        Set<Tag> tags = map.get(key);
+        if (tags == null || !tags.remove(tagToRemove)) {
+            return false;
+        }
+        if (tags.isEmpty()) {
             map.remove(key);
         }
+        return true;
     }
 
     @Override
     public void deleteTag(Tag tag) {
-        Set<Tag> subTagSet = tagSubTagMap.get(tag);
-        boolean hasChildTags = subTagSet != null;
-        Set<Tag> superTagSet = tagSuperTagMap.get(tag);
-        boolean hasParentTags = superTagSet != null;
+        Set<Tag> subTagSet = getSubTagsOf(tag);
+        Set<Tag> superTagSet = getSuperTagsOf(tag);
 
-        if (hasParentTags && hasChildTags) {
-            connectParentWithChildTags(superTagSet, subTagSet);
-        }
-        if (hasParentTags) {
-            superTagSet.forEach(superTag -> removeEntryFromMap(tagSubTagMap, superTag, tag));
-        }
-        if (hasChildTags) {
-            subTagSet.forEach(subTag -> removeEntryFromMap(tagSuperTagMap, subTag, tag));
-        }
-
-        tagSuperTagMap.remove(tag);
-        tagSubTagMap.remove(tag);
+        connectParentWithChildTags(superTagSet, subTagSet);
+        superTagSet.forEach(superTag -> removeEdge(superTag, tag));
+        subTagSet.forEach(subTag -> removeEdge(tag, subTag));
     }
 
     /**
@@ -180,17 +247,12 @@ public class TagTreeImpl extends TagTree {
      * Returns true if {@code subtag} is below {@code superTag} along the tag hierarchy.
      */
     public boolean isSubTagOf(Tag superTag, Tag subTag) {
-        boolean hasNoSubTags = tagSubTagMap.get(superTag) == null;
-        if (hasNoSubTags) {
-            return false;
-        }
-
-        boolean hasSubTagAsDirectChild = tagSubTagMap.get(superTag).contains(subTag);
-        if (hasSubTagAsDirectChild) {
-            return true;
-        }
+        return getCachedSubTagsRecursive(superTag).contains(subTag);
+    }
 
-        return tagSubTagMap.get(superTag).stream().anyMatch(childTag -> isSubTagOf(childTag, subTag));
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     @Override
@@ -0,0 +1,184 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list whose changes can be grouped into batches.
+ * All changes made between {@link #beginBatch()} and the matching {@link #endBatch()} are published to listeners
+ * as a single change when the batch ends, instead of one change per element. Batches can be nested, in which case
+ * the changes are only published when the outermost batch ends.
+ * Every change is also published to edit listeners as soon as it is made, as a {@link ListEdit} that can be
+ * applied to an equal list by {@link #applyEdit(ListEdit)}.
+ */
+public class BatchableObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+    private final List<Consumer<? super ListEdit<E>>> editListeners = new ArrayList<>();
+    private int batchDepth;
+
+    /**
+     * Adds a listener that is notified of every edit made to this list, as soon as it is made.
+     */
+    public void addEditListener(Consumer<? super ListEdit<E>> listener) {
+        editListeners.add(listener);
+    }
+
+    /**
+     * Applies {@code edit}, which must have been made to a list equal to this list.
+     * The edit is published to listeners like any other change.
+     *
+     * @return the elements removed from this list by the edit.
+     */
+    public List<E> applyEdit(ListEdit<E> edit) {
+        if (edit.isReorder()) {
+            reorder(edit.getOrder());
+            return List.of();
+        }
+        return splice(edit.getIndex(), edit.getRemoved().size(), edit.getAdded());
+    }
+
+    /**
+     * Starts a batch of changes. Every call must be matched by a call to {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        batchDepth++;
+        beginChange();
+    }
+
+    /**
+     * Ends a batch of changes, publishing the changes made during the batch if it is the outermost batch.
+     */
+    public void endBatch() {
+        assert batchDepth > 0 : "endBatch() called without a matching beginBatch()";
+        batchDepth--;
+        endChange();
+    }
+
+    public boolean isInBatch() {
+        return batchDepth > 0;
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+        publishEdit(() -> ListEdit.splice(index, List.of(), List.of(element)));
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        E oldElement = elements.set(index, element);
+        publishEdit(() -> ListEdit.splice(index, List.of(oldElement), List.of(element)));
+        return oldElement;
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        E oldElement = elements.remove(index);
+        publishEdit(() -> ListEdit.splice(index, List.of(oldElement), List.of()));
+        return oldElement;
+    }
+
+    /**
+     * Replaces the contents of the list with {@code newElements}, which is published as a single edit.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> newElements) {
+        splice(0, elements.size(), newElements);
+        return true;
+    }
+
+    /**
+     * Sorts the list, which is published as a permutation of the list like {@code FXCollections#sort} does.
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        List<Integer> oldIndices = new ArrayList<>(elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            oldIndices.add(i);
+        }
+        // The sort is stable, so equal elements keep their order
+        oldIndices.sort((first, second) -> comparator.compare(elements.get(first), elements.get(second)));
+        reorder(oldIndices.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Moves the element at index {@code order[i]} of the list to index {@code i}, for every {@code i}.
+     * {@code order} must contain every index of the list once. The reordering is published as one permutation.
+     */
+    public void reorder(int[] order) {
+        assert order.length == elements.size() : "order must contain every index of the list";
+        if (elements.isEmpty()) {
+            return;
+        }
+
+        int[] permutation = new int[order.length];
+        List<E> reorderedElements = new ArrayList<>(order.length);
+        for (int newIndex = 0; newIndex < order.length; newIndex++) {
+            permutation[order[newIndex]] = newIndex;
+            reorderedElements.add(elements.get(order[newIndex]));
+        }
+
+        beginChange();
+        elements.clear();
+        elements.addAll(reorderedElements);
+        modCount++;
+        nextPermutation(0, permutation.length, permutation);
+        endChange();
+        publishEdit(() -> ListEdit.reorder(order));
+    }
+
+    /**
+     * Replaces the {@code removedCount} elements starting at {@code index} with {@code addedElements},
+     * shifting the elements after them once.
+     *
+     * @return the elements removed.
+     */
+    private List<E> splice(int index, int removedCount, Collection<? extends E> addedElements) {
+        List<E> removedRange = elements.subList(index, index + removedCount);
+        List<E> removedElements = new ArrayList<>(removedRange);
+        List<E> added = new ArrayList<>(addedElements);
+
+        beginChange();
+        removedRange.clear();
+        elements.addAll(index, added);
+        modCount++;
+        if (!removedElements.isEmpty()) {
+            nextRemove(index, removedElements);
+        }
+        if (!added.isEmpty()) {
+            nextAdd(index, index + added.size());
+        }
+        endChange();
+        publishEdit(() -> ListEdit.splice(index, removedElements, added));
+        return removedElements;
+    }
+
+    /**
+     * Publishes the edit made by {@code editMaker} to the edit listeners, only making it if there are any.
+     */
+    private void publishEdit(Supplier<ListEdit<E>> editMaker) {
+        if (editListeners.isEmpty()) {
+            return;
+        }
+        ListEdit<E> edit = editMaker.get();
+        editListeners.forEach(listener -> listener.accept(edit));
+    }
+
+}
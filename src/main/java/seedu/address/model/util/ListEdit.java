@@ -0,0 +1,122 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A single change to a list: either a splice, which replaces the elements in a range of the list with other
+ * elements, or a reordering of the whole list.
+ * Adding, removing and replacing an element are splices of a range of at most one element.
+ * An edit can be applied to a list that is equal to the list it was made to, and can be inverted to undo it.
+ */
+public class ListEdit<E> {
+
+    private final int index;
+    private final List<E> removed;
+    private final List<E> added;
+    private final int[] order;
+
+    private ListEdit(int index, List<E> removed, List<E> added, int[] order) {
+        this.index = index;
+        this.removed = removed;
+        this.added = added;
+        this.order = order;
+    }
+
+    /**
+     * Returns an edit that replaces the elements {@code removed} starting at {@code index} with {@code added}.
+     */
+    public static <E> ListEdit<E> splice(int index, List<? extends E> removed, List<? extends E> added) {
+        requireNonNull(removed);
+        requireNonNull(added);
+        assert index >= 0;
+        return new ListEdit<>(index, List.copyOf(removed), List.copyOf(added), null);
+    }
+
+    /**
+     * Returns an edit that moves the element at index {@code order[i]} of the list to index {@code i}.
+     */
+    public static <E> ListEdit<E> reorder(int[] order) {
+        requireNonNull(order);
+        return new ListEdit<>(0, List.of(), List.of(), order.clone());
+    }
+
+    public boolean isReorder() {
+        return order != null;
+    }
+
+    /**
+     * Returns the index of the first element removed or added by a splice.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the elements removed by a splice, in the order they were in the list.
+     */
+    public List<E> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns the elements added by a splice, in the order they are in the list.
+     */
+    public List<E> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the old index of the element at each index of the list after a reordering.
+     */
+    public int[] getOrder() {
+        return order.clone();
+    }
+
+    /**
+     * Returns the edit that undoes this edit.
+     */
+    public ListEdit<E> invert() {
+        if (!isReorder()) {
+            return new ListEdit<>(index, added, removed, null);
+        }
+
+        int[] inverseOrder = new int[order.length];
+        for (int newIndex = 0; newIndex < order.length; newIndex++) {
+            inverseOrder[order[newIndex]] = newIndex;
+        }
+        return new ListEdit<>(0, List.of(), List.of(), inverseOrder);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ListEdit)) {
+            return false;
+        }
+
+        ListEdit<?> otherEdit = (ListEdit<?>) other;
+        return index == otherEdit.index
+                && removed.equals(otherEdit.removed)
+                && added.equals(otherEdit.added)
+                && Arrays.equals(order, otherEdit.order);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, removed, added, Arrays.hashCode(order));
+    }
+
+    @Override
+    public String toString() {
+        return isReorder()
+                ? "Reorder " + Arrays.toString(order)
+                : "Splice at " + index + ": removed " + removed + ", added " + added;
+    }
+
+}
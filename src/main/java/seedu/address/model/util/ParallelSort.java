@@ -0,0 +1,69 @@
+package seedu.address.model.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Sorts large lists by string keys using all available cores.
+ * The list being sorted must not be modified during the sort.
+ * The keys of each element are extracted once, in parallel, and the (keys, ordinal) pairs are then sorted with
+ * {@link Arrays#parallelSort(Object[])}, so no key is computed again during the comparisons.
+ */
+public class ParallelSort {
+
+    private ParallelSort() {} // prevents instantiation
+
+    /**
+     * Returns the order of the elements of {@code elements} when sorted by the keys extracted with
+     * {@code keyExtractors}, as the index in {@code elements} of the element that goes at each position.
+     * Later keys are only compared when all earlier keys are equal, and elements whose keys are all equal keep
+     * their relative order.
+     */
+    public static <T> int[] sortOrder(List<T> elements, List<? extends Function<? super T, String>> keyExtractors) {
+        SortEntry[] entries = new SortEntry[elements.size()];
+        IntStream.range(0, entries.length).parallel().forEach(ordinal -> {
+            T element = elements.get(ordinal);
+            String[] keys = new String[keyExtractors.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = keyExtractors.get(i).apply(element);
+            }
+            entries[ordinal] = new SortEntry(keys, ordinal);
+        });
+
+        Arrays.parallelSort(entries);
+
+        int[] order = new int[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            order[i] = entries[i].ordinal;
+        }
+        return order;
+    }
+
+    /**
+     * The keys of an element, together with the position of the element in the list being sorted.
+     * Entries are ordered by their keys, then by their position, which makes the sort stable.
+     */
+    private static class SortEntry implements Comparable<SortEntry> {
+        private final String[] keys;
+        private final int ordinal;
+
+        SortEntry(String[] keys, int ordinal) {
+            this.keys = keys;
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public int compareTo(SortEntry other) {
+            for (int i = 0; i < keys.length; i++) {
+                int result = keys[i].compareTo(other.keys[i]);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return Integer.compare(ordinal, other.ordinal);
+        }
+    }
+
+}
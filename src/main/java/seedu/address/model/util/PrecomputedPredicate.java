@@ -0,0 +1,77 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A predicate whose matching elements among the elements of a list are found up front, so that a
+ * {@code FilteredList} over the list only has to look them up when the predicate is set.
+ * The matching elements are either found by an index, or by evaluating the predicate in parallel over a snapshot of
+ * the list. They are only used until {@link #stopUsingResults()} is called. Elements added or replaced afterwards are
+ * tested against the predicate itself.
+ */
+public class PrecomputedPredicate<T> implements Predicate<T> {
+
+    /**
+     * The number of elements from which a list is worth filtering in parallel.
+     * Smaller lists are filtered faster on the calling thread, without splitting the work between threads.
+     */
+    public static final int PARALLEL_THRESHOLD = 10_000;
+
+    private final Predicate<T> predicate;
+    private Set<T> matchingElements;
+
+    private PrecomputedPredicate(Predicate<T> predicate, Set<T> matchingElements) {
+        this.predicate = predicate;
+        this.matchingElements = matchingElements;
+    }
+
+    /**
+     * Returns a predicate that matches exactly {@code matchingElements} of the current elements of the list,
+     * which must be the elements that {@code predicate} matches.
+     */
+    public static <T> PrecomputedPredicate<T> of(Predicate<T> predicate, Set<T> matchingElements) {
+        requireNonNull(predicate);
+        requireNonNull(matchingElements);
+        return new PrecomputedPredicate<>(predicate, matchingElements);
+    }
+
+    /**
+     * Evaluates {@code predicate} for every element of {@code elements} on the common fork-join pool.
+     * The elements that match are held by reference.
+     * The predicate must be safe to evaluate from several threads at once, which holds for predicates that only read
+     * the elements and their own state.
+     */
+    public static <T> PrecomputedPredicate<T> evaluate(Predicate<T> predicate, Collection<? extends T> elements) {
+        List<T> snapshot = new ArrayList<>(elements);
+        Set<T> matchingElements = snapshot.parallelStream()
+                .filter(predicate)
+                .collect(Collectors.toCollection(() -> Collections.newSetFromMap(new IdentityHashMap<>())));
+        return new PrecomputedPredicate<>(predicate, matchingElements);
+    }
+
+    /**
+     * Tests elements against the predicate itself from now on, instead of looking up the matching elements found
+     * up front.
+     */
+    public void stopUsingResults() {
+        matchingElements = null;
+    }
+
+    @Override
+    public boolean test(T element) {
+        if (matchingElements == null) {
+            return predicate.test(element);
+        }
+        return matchingElements.contains(element);
+    }
+
+}
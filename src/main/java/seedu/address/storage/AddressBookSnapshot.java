@@ -0,0 +1,31 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable copy of the persons in an address book, taken so that it can be written later.
+ * Unlike a copied {@code AddressBook}, it does not build any of the indices of the address book.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+
+    /**
+     * Takes a snapshot of the persons currently in {@code addressBook}.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        List<Person> personList = List.copyOf(addressBook.getPersonList());
+        persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(personList));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+}
@@ -0,0 +1,353 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyCalendar;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.RemindersImpl;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.reminder.ReadOnlyReminders;
+import seedu.address.model.tag.ReadOnlyTagTree;
+import seedu.address.model.tag.TagTreeImpl;
+
+/**
+ * Wraps a {@code Storage} so that data files are written in the background instead of by the caller.
+ * Saving a component that has changed takes a copy of it, which is written later by a single background thread.
+ * Address books and calendars are copied as plain lists, without building the indices of the model.
+ * Components saved again before their copy is written are coalesced, so only their latest copy is written.
+ * A failed write is logged and retried with the next write, and is reported by the next save or {@link #flush()}.
+ * User preferences and saves to an explicit file path are written immediately.
+ */
+public class AsyncStorageManager implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncStorageManager.class);
+
+    private final Storage storage;
+    private final Executor writer;
+
+    // Components last copied for writing, only accessed by the thread saving them.
+    private final SaveRecord addressBookSaveRecord = new SaveRecord();
+    private final SaveRecord calendarSaveRecord = new SaveRecord();
+    private final SaveRecord tagTreeSaveRecord = new SaveRecord();
+    private final SaveRecord remindersSaveRecord = new SaveRecord();
+
+    // Copies waiting to be written and the result of the last write, guarded by the lock of this object.
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ReadOnlyCalendar pendingCalendar;
+    private ReadOnlyTagTree pendingTagTree;
+    private ReadOnlyReminders pendingReminders;
+    private boolean isWriteScheduled;
+    private IOException writeFailure;
+
+    /**
+     * Creates an {@code AsyncStorageManager} that writes through the given {@code storage}.
+     */
+    public AsyncStorageManager(Storage storage) {
+        this(storage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates an {@code AsyncStorageManager} that writes through the given {@code storage} on the given
+     * {@code writer}, which must run the writes one at a time.
+     */
+    public AsyncStorageManager(Storage storage, Executor writer) {
+        requireNonNull(storage);
+        requireNonNull(writer);
+        this.storage = storage;
+        this.writer = writer;
+    }
+
+    /**
+     * Writes all copies that are waiting to be written and waits for them to be written.
+     *
+     * @throws IOException if the last write failed. Its copies are kept, and are retried by the next write.
+     */
+    @Override
+    public void flush() throws IOException {
+        try {
+            CompletableFuture.runAsync(this::writePending, writer).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing data files", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+        throwWriteFailure();
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        flush();
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        throwWriteFailure();
+        if (!addressBookSaveRecord.isUpToDate(addressBook)) {
+            long modificationCount = SaveRecord.getModificationCount(addressBook);
+            AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+            synchronized (this) {
+                pendingAddressBook = snapshot;
+                scheduleWrite();
+            }
+            addressBookSaveRecord.update(addressBook, modificationCount);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+
+    // ================ Calendar methods ==============================
+
+    @Override
+    public Path getCalendarFilePath() {
+        return storage.getCalendarFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyCalendar> readCalendar() throws DataConversionException, IOException {
+        flush();
+        return storage.readCalendar();
+    }
+
+    @Override
+    public Optional<ReadOnlyCalendar> readCalendar(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readCalendar(filePath);
+    }
+
+    @Override
+    public void saveCalendar(ReadOnlyCalendar calendar) throws IOException {
+        requireNonNull(calendar);
+        throwWriteFailure();
+        if (!calendarSaveRecord.isUpToDate(calendar)) {
+            long modificationCount = SaveRecord.getModificationCount(calendar);
+            CalendarSnapshot snapshot = new CalendarSnapshot(calendar);
+            synchronized (this) {
+                pendingCalendar = snapshot;
+                scheduleWrite();
+            }
+            calendarSaveRecord.update(calendar, modificationCount);
+        }
+    }
+
+    @Override
+    public void saveCalendar(ReadOnlyCalendar calendar, Path filePath) throws IOException {
+        storage.saveCalendar(calendar, filePath);
+    }
+
+
+    // ================ TagTree methods ==============================
+
+    @Override
+    public Path getTagTreeFilePath() {
+        return storage.getTagTreeFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyTagTree> readTagTree() throws DataConversionException, IOException {
+        flush();
+        return storage.readTagTree();
+    }
+
+    @Override
+    public Optional<ReadOnlyTagTree> readTagTree(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readTagTree(filePath);
+    }
+
+    @Override
+    public void saveTagTree(ReadOnlyTagTree tagTree) throws IOException {
+        requireNonNull(tagTree);
+        throwWriteFailure();
+        if (!tagTreeSaveRecord.isUpToDate(tagTree)) {
+            long modificationCount = SaveRecord.getModificationCount(tagTree);
+            TagTreeImpl copy = new TagTreeImpl(tagTree);
+            synchronized (this) {
+                pendingTagTree = copy;
+                scheduleWrite();
+            }
+            tagTreeSaveRecord.update(tagTree, modificationCount);
+        }
+    }
+
+    @Override
+    public void saveTagTree(ReadOnlyTagTree tagTree, Path filePath) throws IOException {
+        storage.saveTagTree(tagTree, filePath);
+    }
+
+
+    // ================ Reminders methods ==============================
+
+    @Override
+    public Path getRemindersFilePath() {
+        return storage.getRemindersFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyReminders> readReminders() throws DataConversionException, IOException {
+        flush();
+        return storage.readReminders();
+    }
+
+    @Override
+    public Optional<ReadOnlyReminders> readReminders(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readReminders(filePath);
+    }
+
+    @Override
+    public void saveReminders(ReadOnlyReminders reminders) throws IOException {
+        requireNonNull(reminders);
+        throwWriteFailure();
+        if (!remindersSaveRecord.isUpToDate(reminders)) {
+            long modificationCount = SaveRecord.getModificationCount(reminders);
+            RemindersImpl copy = new RemindersImpl(reminders);
+            synchronized (this) {
+                pendingReminders = copy;
+                scheduleWrite();
+            }
+            remindersSaveRecord.update(reminders, modificationCount);
+        }
+    }
+
+    @Override
+    public void saveReminders(ReadOnlyReminders reminders, Path filePath) throws IOException {
+        storage.saveReminders(reminders, filePath);
+    }
+
+
+    // ================ Background writing ==============================
+
+    /**
+     * Schedules the pending copies to be written, unless a write that has not started yet is already scheduled.
+     * Must be called while holding the lock of this object.
+     */
+    private void scheduleWrite() {
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Writes the copies that are waiting to be written. Runs on the background writer thread.
+     */
+    private void writePending() {
+        ReadOnlyAddressBook addressBook;
+        ReadOnlyCalendar calendar;
+        ReadOnlyTagTree tagTree;
+        ReadOnlyReminders reminders;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            calendar = pendingCalendar;
+            tagTree = pendingTagTree;
+            reminders = pendingReminders;
+            pendingAddressBook = null;
+            pendingCalendar = null;
+            pendingTagTree = null;
+            pendingReminders = null;
+            isWriteScheduled = false;
+        }
+
+        try {
+            if (addressBook != null) {
+                storage.saveAddressBook(addressBook);
+                addressBook = null;
+            }
+            if (calendar != null) {
+                storage.saveCalendar(calendar);
+                calendar = null;
+            }
+            if (tagTree != null) {
+                storage.saveTagTree(tagTree);
+                tagTree = null;
+            }
+            if (reminders != null) {
+                storage.saveReminders(reminders);
+                reminders = null;
+            }
+            synchronized (this) {
+                writeFailure = null;
+            }
+        } catch (IOException ioe) {
+            logger.warning("Failed to write data files in the background " + StringUtil.getDetails(ioe));
+            synchronized (this) {
+                writeFailure = ioe;
+                // copies that were not written are retried with the next write, unless they were saved again
+                pendingAddressBook = pendingAddressBook == null ? addressBook : pendingAddressBook;
+                pendingCalendar = pendingCalendar == null ? calendar : pendingCalendar;
+                pendingTagTree = pendingTagTree == null ? tagTree : pendingTagTree;
+                pendingReminders = pendingReminders == null ? reminders : pendingReminders;
+            }
+        }
+    }
+
+    /**
+     * Throws the failure of the last background write, if it failed and has not been reported yet.
+     */
+    private void throwWriteFailure() throws IOException {
+        IOException failure;
+        synchronized (this) {
+            failure = writeFailure;
+            writeFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a binary file on the hard disk.
+ * Each person is a record of their name, phone, email, address and the indices of their tags in the tag dictionary.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (BinaryDataReader reader = new BinaryDataReader(filePath, BinaryFormat.ADDRESS_BOOK)) {
+            reader.readTagDictionary();
+            AddressBook addressBook = new AddressBook();
+            int count = reader.readRecordCount();
+            for (int i = 0; i < count; i++) {
+                reader.nextRecord();
+                Person person = readPerson(reader);
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads a person from the current record of {@code reader}.
+     * Names, phones and emails are still validated by their constructors.
+     */
+    private static Person readPerson(BinaryDataReader reader) throws IllegalValueException {
+        Name name = new Name(reader.readString());
+        Phone phone = new Phone(reader.readString());
+        Email email = new Email(reader.readString());
+        Address address = new Address(reader.readString());
+        int tagCount = reader.readInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(reader.readTag());
+        }
+        return new Person(name, phone, email, address, tags);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        List<Person> persons = addressBook.getPersonList();
+        try (BinaryDataWriter writer = new BinaryDataWriter(filePath, BinaryFormat.ADDRESS_BOOK)) {
+            Set<Tag> tags = new HashSet<>();
+            persons.forEach(person -> tags.addAll(person.getTags()));
+            writer.writeTagDictionary(tags);
+            writer.writeRecordCount(persons.size());
+            for (Person person : persons) {
+                writer.writeString(person.getName().fullName);
+                writer.writeString(person.getPhone().value);
+                writer.writeString(person.getEmail().value);
+                writer.writeString(person.getAddress().value);
+                writer.writeInt(person.getTags().size());
+                for (Tag tag : person.getTags()) {
+                    writer.writeTag(tag);
+                }
+                writer.endRecord();
+            }
+        }
+    }
+
+}
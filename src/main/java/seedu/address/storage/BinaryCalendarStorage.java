@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Calendar;
+import seedu.address.model.ReadOnlyCalendar;
+import seedu.address.model.event.Description;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.Time;
+import seedu.address.model.event.association.FauxPerson;
+
+/**
+ * A class to access Calendar data stored as a binary file on the hard disk.
+ * Each event is a record of its description, its time and the display names and hash codes of its associated persons.
+ * The tag dictionary of the file is empty.
+ */
+public class BinaryCalendarStorage implements CalendarStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryCalendarStorage.class);
+
+    private Path filePath;
+
+    public BinaryCalendarStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getCalendarFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyCalendar> readCalendar() throws DataConversionException, IOException {
+        return readCalendar(filePath);
+    }
+
+    /**
+     * Similar to {@link #readCalendar()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyCalendar> readCalendar(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (BinaryDataReader reader = new BinaryDataReader(filePath, BinaryFormat.CALENDAR)) {
+            reader.readTagDictionary();
+            Calendar calendar = new Calendar();
+            int count = reader.readRecordCount();
+            for (int i = 0; i < count; i++) {
+                reader.nextRecord();
+                Event event = readEvent(reader);
+                if (calendar.hasEvent(event)) {
+                    throw new IllegalValueException(JsonSerializableCalendar.MESSAGE_DUPLICATE_EVENT);
+                }
+                calendar.addEvent(event);
+            }
+            return Optional.of(calendar);
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads an event from the current record of {@code reader}.
+     */
+    private static Event readEvent(BinaryDataReader reader) throws IllegalValueException {
+        Description description = new Description(reader.readString());
+        Time time = reader.readTime();
+        int associatedPersonCount = reader.readInt();
+        Set<FauxPerson> associatedPersons = new HashSet<>();
+        for (int i = 0; i < associatedPersonCount; i++) {
+            String displayName = reader.readString();
+            if (!FauxPerson.isValidDisplayName(displayName)) {
+                throw new IllegalValueException(FauxPerson.MESSAGE_CONSTRAINTS_NAME);
+            }
+            associatedPersons.add(new FauxPerson(displayName, reader.readInt()));
+        }
+        return new Event(description, time, associatedPersons);
+    }
+
+    @Override
+    public void saveCalendar(ReadOnlyCalendar calendar) throws IOException {
+        saveCalendar(calendar, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveCalendar(ReadOnlyCalendar)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveCalendar(ReadOnlyCalendar calendar, Path filePath) throws IOException {
+        requireNonNull(calendar);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        List<Event> events = calendar.getEventList();
+        try (BinaryDataWriter writer = new BinaryDataWriter(filePath, BinaryFormat.CALENDAR)) {
+            writer.writeTagDictionary(Collections.emptySet());
+            writer.writeRecordCount(events.size());
+            for (Event event : events) {
+                writer.writeString(event.getDescription().fullDescription);
+                writer.writeTime(event.getTime());
+                writer.writeInt(event.getAssociatedPersons().size());
+                for (FauxPerson associatedPerson : event.getAssociatedPersons()) {
+                    writer.writeString(associatedPerson.displayName);
+                    writer.writeInt(associatedPerson.personHashCode);
+                }
+                writer.endRecord();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,176 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.event.Time;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads a data file in the binary format described by {@link BinaryFormat}.
+ * Fields are read from the current record, which is read from the file by {@link #nextRecord()}.
+ * Fields left unread in a record, such as those added by a newer version of the format, are skipped.
+ */
+class BinaryDataReader implements Closeable {
+
+    public static final String MESSAGE_NOT_BINARY_DATA_FILE = "File is not a binary data file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data file version %d is not supported";
+    public static final String MESSAGE_WRONG_FILE_TYPE = "Binary data file holds the wrong type of data";
+    public static final String MESSAGE_CORRUPTED_DATA = "Binary data file is corrupted";
+
+    private final DataInputStream input;
+    private final List<Tag> tagDictionary = new ArrayList<>();
+    private byte[] recordBytes = new byte[0];
+    private ByteBuffer record = ByteBuffer.wrap(recordBytes);
+
+    /**
+     * Creates a {@code BinaryDataReader} for the file at {@code filePath}, and checks that its header
+     * is that of a file with data of type {@code fileType} in a supported version of the format.
+     *
+     * @throws IllegalValueException if the header does not match.
+     */
+    BinaryDataReader(Path filePath, byte fileType) throws IOException, IllegalValueException {
+        input = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)));
+        try {
+            if (input.readInt() != BinaryFormat.MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_DATA_FILE);
+            }
+            int version = input.readInt();
+            if (version != BinaryFormat.VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            if (input.readByte() != fileType) {
+                throw new IllegalValueException(MESSAGE_WRONG_FILE_TYPE);
+            }
+        } catch (EOFException e) {
+            input.close();
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_DATA_FILE);
+        } catch (IOException | IllegalValueException e) {
+            input.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the dictionary of tags referred to by {@link #readTag()}.
+     * Each tag name is validated once, however many records refer to it.
+     *
+     * @return the tags in the dictionary.
+     */
+    List<Tag> readTagDictionary() throws IOException, IllegalValueException {
+        int count = readCount();
+        for (int i = 0; i < count; i++) {
+            String tagName = readFileString();
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tagDictionary.add(Tag.of(tagName));
+        }
+        return tagDictionary;
+    }
+
+    int readRecordCount() throws IOException, IllegalValueException {
+        return readCount();
+    }
+
+    /**
+     * Reads the next record from the file, skipping whatever is left of the current record.
+     */
+    void nextRecord() throws IOException, IllegalValueException {
+        int length = readCount();
+        if (recordBytes.length < length) {
+            recordBytes = new byte[Math.max(length, recordBytes.length * 2)];
+        }
+        try {
+            input.readFully(recordBytes, 0, length);
+        } catch (EOFException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_DATA);
+        }
+        record = ByteBuffer.wrap(recordBytes, 0, length);
+    }
+
+    int readInt() throws IllegalValueException {
+        try {
+            return record.getInt();
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_DATA);
+        }
+    }
+
+    String readString() throws IllegalValueException {
+        int length = readInt();
+        if (length < 0 || length > record.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_DATA);
+        }
+        String value = new String(recordBytes, record.position(), length, UTF_8);
+        record.position(record.position() + length);
+        return value;
+    }
+
+    /**
+     * Reads a time from the current record without parsing it.
+     */
+    Time readTime() throws IllegalValueException {
+        try {
+            return new Time(BinaryFormat.fromEpochMinutes(record.getLong()));
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_DATA);
+        }
+    }
+
+    /**
+     * Reads a tag from the current record, which is looked up in the tag dictionary.
+     */
+    Tag readTag() throws IllegalValueException {
+        int index = readInt();
+        if (index < 0 || index >= tagDictionary.size()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_DATA);
+        }
+        return tagDictionary.get(index);
+    }
+
+    /**
+     * Reads a count from the file outside of any record.
+     * A file that ends before the count is corrupted, as the count is always followed by what it counts.
+     */
+    private int readCount() throws IOException, IllegalValueException {
+        int count;
+        try {
+            count = input.readInt();
+        } catch (EOFException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_DATA);
+        }
+        if (count < 0) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_DATA);
+        }
+        return count;
+    }
+
+    private String readFileString() throws IOException, IllegalValueException {
+        byte[] bytes = new byte[readCount()];
+        try {
+            input.readFully(bytes);
+        } catch (EOFException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_DATA);
+        }
+        return new String(bytes, UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+}
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.event.Time;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes a data file in the binary format described by {@link BinaryFormat}.
+ * Fields are written to the current record, which is only written to the file by {@link #endRecord()}.
+ */
+class BinaryDataWriter implements Closeable {
+
+    private final DataOutputStream output;
+    private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    private final DataOutputStream record = new DataOutputStream(recordBytes);
+    private final Map<Tag, Integer> tagIndices = new HashMap<>();
+
+    /**
+     * Creates a {@code BinaryDataWriter} that overwrites the file at {@code filePath} with data of type
+     * {@code fileType}, and writes the header of the file.
+     */
+    BinaryDataWriter(Path filePath, byte fileType) throws IOException {
+        output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(filePath)));
+        output.writeInt(BinaryFormat.MAGIC);
+        output.writeInt(BinaryFormat.VERSION);
+        output.writeByte(fileType);
+    }
+
+    /**
+     * Writes the dictionary of tags referred to by {@link #writeTag(Tag)}, each distinct tag being written once.
+     */
+    void writeTagDictionary(Collection<Tag> tags) throws IOException {
+        for (Tag tag : tags) {
+            tagIndices.putIfAbsent(tag, tagIndices.size());
+        }
+
+        Tag[] dictionary = new Tag[tagIndices.size()];
+        tagIndices.forEach((tag, index) -> dictionary[index] = tag);
+        output.writeInt(dictionary.length);
+        for (Tag tag : dictionary) {
+            writeString(output, tag.tagName);
+        }
+    }
+
+    void writeRecordCount(int count) throws IOException {
+        output.writeInt(count);
+    }
+
+    /**
+     * Writes the current record to the file, preceded by its length, and starts a new record.
+     */
+    void endRecord() throws IOException {
+        output.writeInt(recordBytes.size());
+        recordBytes.writeTo(output);
+        recordBytes.reset();
+    }
+
+    void writeInt(int value) throws IOException {
+        record.writeInt(value);
+    }
+
+    void writeString(String value) throws IOException {
+        writeString(record, value);
+    }
+
+    void writeTime(Time time) throws IOException {
+        record.writeLong(BinaryFormat.toEpochMinutes(time.time));
+    }
+
+    /**
+     * Writes {@code tag} to the current record as its index in the tag dictionary.
+     * The tag must have been written to the tag dictionary.
+     */
+    void writeTag(Tag tag) throws IOException {
+        Integer index = tagIndices.get(tag);
+        assert index != null : "Tag is missing from the tag dictionary";
+        record.writeInt(index);
+    }
+
+    private static void writeString(DataOutputStream stream, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        stream.writeInt(bytes.length);
+        stream.write(bytes);
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+
+}
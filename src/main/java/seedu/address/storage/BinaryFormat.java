@@ -0,0 +1,42 @@
+package seedu.address.storage;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Describes the layout of the binary data files.
+ *
+ * A binary data file starts with a header of the {@link #MAGIC} number, the {@link #VERSION} of the format
+ * and the type of data in the file, followed by a dictionary of the tags used in the file and the records.
+ * The dictionary and the records are each preceded by their count. Every record is preceded by its length in bytes,
+ * so records of a newer version with more fields can still be skipped over.
+ * Strings are written as their length in bytes followed by their UTF-8 bytes, tags as their index in the dictionary
+ * and times as the number of minutes since the epoch.
+ */
+final class BinaryFormat {
+
+    /** The first four bytes of every binary data file, "ATHB" in ASCII. */
+    static final int MAGIC = 0x41544842;
+    static final int VERSION = 1;
+
+    static final byte ADDRESS_BOOK = 1;
+    static final byte CALENDAR = 2;
+    static final byte TAG_TREE = 3;
+    static final byte REMINDERS = 4;
+
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    private BinaryFormat() {}
+
+    /**
+     * Returns the number of whole minutes from the epoch to {@code time}, dropping any seconds.
+     */
+    static long toEpochMinutes(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    static LocalDateTime fromEpochMinutes(long epochMinutes) {
+        return LocalDateTime.ofEpochSecond(epochMinutes * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+
+}
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.RemindersImpl;
+import seedu.address.model.event.Description;
+import seedu.address.model.event.Event;
+import seedu.address.model.reminder.ReadOnlyReminders;
+import seedu.address.model.reminder.Reminder;
+
+/**
+ * A class to access Reminders data stored as a binary file on the hard disk.
+ * Each reminder is a record of the description and time of its event and the date it starts reminding from.
+ * As with the json file, the persons associated with the event are not stored. The tag dictionary of the file is empty.
+ */
+public class BinaryRemindersStorage implements RemindersStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryRemindersStorage.class);
+
+    private Path filePath;
+
+    public BinaryRemindersStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getRemindersFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyReminders> readReminders() throws DataConversionException, IOException {
+        return readReminders(filePath);
+    }
+
+    /**
+     * Similar to {@link #readReminders()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyReminders> readReminders(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (BinaryDataReader reader = new BinaryDataReader(filePath, BinaryFormat.REMINDERS)) {
+            reader.readTagDictionary();
+            RemindersImpl reminders = new RemindersImpl();
+            int count = reader.readRecordCount();
+            for (int i = 0; i < count; i++) {
+                reader.nextRecord();
+                Event event = new Event(new Description(reader.readString()), reader.readTime(),
+                        Collections.emptySet());
+                Reminder reminder = new Reminder(event, reader.readTime());
+                if (reminders.hasReminder(reminder)) {
+                    throw new IllegalValueException(JsonSerializableReminders.MESSAGE_DUPLICATE_EVENT);
+                }
+                reminders.addReminder(reminder);
+            }
+            return Optional.of(reminders);
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveReminders(ReadOnlyReminders reminders) throws IOException {
+        saveReminders(reminders, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveReminders(ReadOnlyReminders)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveReminders(ReadOnlyReminders reminders, Path filePath) throws IOException {
+        requireNonNull(reminders);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        List<Reminder> reminderList = reminders.getRemindersList();
+        try (BinaryDataWriter writer = new BinaryDataWriter(filePath, BinaryFormat.REMINDERS)) {
+            writer.writeTagDictionary(Collections.emptySet());
+            writer.writeRecordCount(reminderList.size());
+            for (Reminder reminder : reminderList) {
+                writer.writeString(reminder.getEventToRemind().getDescription().fullDescription);
+                writer.writeTime(reminder.getEventToRemind().getTime());
+                writer.writeTime(reminder.getReminderDate());
+                writer.endRecord();
+            }
+        }
+    }
+
+}
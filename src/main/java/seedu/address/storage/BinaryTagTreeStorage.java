@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.tag.ReadOnlyTagTree;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagTreeImpl;
+
+/**
+ * A class to access TagTree data stored as a binary file on the hard disk.
+ * Each super-tag is a record of its index in the tag dictionary and the indices of its sub-tags.
+ */
+public class BinaryTagTreeStorage implements TagTreeStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTagTreeStorage.class);
+
+    private Path filePath;
+
+    public BinaryTagTreeStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getTagTreeFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTagTree> readTagTree() throws DataConversionException, IOException {
+        return readTagTree(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTagTree()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTagTree> readTagTree(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (BinaryDataReader reader = new BinaryDataReader(filePath, BinaryFormat.TAG_TREE)) {
+            reader.readTagDictionary();
+            Map<Tag, Set<Tag>> tagSubTagMap = new HashMap<>();
+            Map<Tag, Set<Tag>> tagSuperTagMap = new HashMap<>();
+            int count = reader.readRecordCount();
+            for (int i = 0; i < count; i++) {
+                reader.nextRecord();
+                Tag superTag = reader.readTag();
+                int subTagCount = reader.readInt();
+                Set<Tag> subTags = new HashSet<>();
+                for (int j = 0; j < subTagCount; j++) {
+                    Tag subTag = reader.readTag();
+                    subTags.add(subTag);
+                    tagSuperTagMap.computeIfAbsent(subTag, tag -> new HashSet<>()).add(superTag);
+                }
+                tagSubTagMap.put(superTag, subTags);
+            }
+            return Optional.of(new TagTreeImpl(tagSubTagMap, tagSuperTagMap));
+        } catch (IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveTagTree(ReadOnlyTagTree tagTree) throws IOException {
+        saveTagTree(tagTree, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTagTree(ReadOnlyTagTree)}.
+     *
+     * @param tagTree tag tree to be saved. Cannot be null.
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTagTree(ReadOnlyTagTree tagTree, Path filePath) throws IOException {
+        requireNonNull(tagTree);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        Map<Tag, Set<Tag>> tagSubTagMap = tagTree.getTagSubTagMap();
+        try (BinaryDataWriter writer = new BinaryDataWriter(filePath, BinaryFormat.TAG_TREE)) {
+            Set<Tag> tags = new HashSet<>(tagSubTagMap.keySet());
+            tagSubTagMap.values().forEach(tags::addAll);
+            writer.writeTagDictionary(tags);
+            writer.writeRecordCount(tagSubTagMap.size());
+            for (Map.Entry<Tag, Set<Tag>> entry : tagSubTagMap.entrySet()) {
+                writer.writeTag(entry.getKey());
+                writer.writeInt(entry.getValue().size());
+                for (Tag subTag : entry.getValue()) {
+                    writer.writeTag(subTag);
+                }
+                writer.endRecord();
+            }
+        }
+    }
+
+}
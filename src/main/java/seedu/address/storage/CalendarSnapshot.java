@@ -0,0 +1,31 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyCalendar;
+import seedu.address.model.event.Event;
+
+/**
+ * An immutable copy of the events in a calendar, taken so that it can be written later.
+ * Unlike a copied {@code Calendar}, it does not build any of the indices of the calendar.
+ */
+class CalendarSnapshot implements ReadOnlyCalendar {
+
+    private final ObservableList<Event> events;
+
+    /**
+     * Takes a snapshot of the events currently in {@code calendar}.
+     */
+    CalendarSnapshot(ReadOnlyCalendar calendar) {
+        List<Event> eventList = List.copyOf(calendar.getEventList());
+        events = FXCollections.unmodifiableObservableList(FXCollections.observableList(eventList));
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return events;
+    }
+
+}
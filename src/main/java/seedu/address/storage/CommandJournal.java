@@ -0,0 +1,386 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.DataChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyCalendar;
+import seedu.address.model.RemindersImpl;
+import seedu.address.model.reminder.ReadOnlyReminders;
+import seedu.address.model.tag.ReadOnlyTagTree;
+import seedu.address.model.tag.TagTreeImpl;
+
+/**
+ * An append-only journal of the changes made to the data since the data files were last written.
+ * The data files act as a snapshot, and the journal is replayed on top of them to restore the latest data.
+ *
+ * Every change is journaled as it was resolved by the model, as one line of JSON, so replaying it does not depend
+ * on the command that made it, on the lists shown at the time, or on the current date.
+ *
+ * The journal is split into numbered segment files. Compaction starts a new segment and writes a copy of the data
+ * to the data files in the background, after which the older segments are deleted. A checkpoint file records the
+ * first segment that is not part of the data files, so that an interrupted compaction is completed on recovery.
+ */
+public class CommandJournal {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandJournal.class);
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE_NAME = "checkpoint";
+    private static final String CHECKPOINT_INSTALLING_PREFIX = "installing ";
+    private static final String SNAPSHOT_SUFFIX = ".compacting";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private static final int NOT_A_SEGMENT = -1;
+
+    private final Path directory;
+    private final Storage storage;
+    private final long compactionThreshold;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private int firstSegment;
+    private int currentSegment;
+    private BufferedWriter writer;
+    private long uncompactedSize;
+    private boolean hasUncompactedChanges;
+    private Future<?> lastCompaction;
+
+    /**
+     * Creates a {@code CommandJournal} in {@code directory} that compacts into the data files of {@code storage}.
+     */
+    public CommandJournal(Path directory, Storage storage) {
+        this(directory, storage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code CommandJournal} in {@code directory} that compacts into the data files of {@code storage}
+     * once the journal grows past {@code compactionThreshold} bytes.
+     */
+    public CommandJournal(Path directory, Storage storage, long compactionThreshold) {
+        requireNonNull(directory);
+        requireNonNull(storage);
+        this.directory = directory;
+        this.storage = storage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Completes any compaction that was interrupted and removes files left behind by it.
+     * Must be called before the data files are read.
+     */
+    public void recover() throws IOException {
+        Files.createDirectories(directory);
+
+        String checkpoint = readCheckpoint();
+        if (checkpoint.startsWith(CHECKPOINT_INSTALLING_PREFIX)) {
+            firstSegment = Integer.parseInt(checkpoint.substring(CHECKPOINT_INSTALLING_PREFIX.length()));
+            installSnapshotFiles();
+            writeCheckpoint(String.valueOf(firstSegment));
+        } else {
+            firstSegment = checkpoint.isEmpty() ? 0 : Integer.parseInt(checkpoint);
+            for (Path dataFile : getDataFilePaths()) {
+                Files.deleteIfExists(getSnapshotPath(dataFile));
+            }
+        }
+        deleteSegmentsBefore(firstSegment);
+
+        List<Integer> segments = getSegments();
+        currentSegment = segments.isEmpty() ? firstSegment : segments.get(segments.size() - 1);
+        uncompactedSize = 0;
+        for (int segment : segments) {
+            uncompactedSize += Files.size(getSegmentPath(segment));
+        }
+        truncateIncompleteRecord(getSegmentPath(currentSegment));
+    }
+
+    /**
+     * Discards the journal, so that it starts afresh on top of the data files as they are.
+     */
+    public void reset() throws IOException {
+        Files.createDirectories(directory);
+        deleteSegmentsBefore(Integer.MAX_VALUE);
+        Files.deleteIfExists(directory.resolve(CHECKPOINT_FILE_NAME));
+        for (Path dataFile : getDataFilePaths()) {
+            Files.deleteIfExists(getSnapshotPath(dataFile));
+        }
+
+        firstSegment = 0;
+        currentSegment = 0;
+        uncompactedSize = 0;
+        hasUncompactedChanges = false;
+    }
+
+    /**
+     * Replays the journal by passing every journaled change to {@code onChange}, in the order they were journaled.
+     *
+     * @throws DataConversionException if a journaled change is not in the expected format.
+     */
+    public void replay(Consumer<DataChange> onChange) throws DataConversionException, IOException {
+        requireNonNull(onChange);
+        for (int segment : getSegments()) {
+            String content = new String(Files.readAllBytes(getSegmentPath(segment)), UTF_8);
+            // a record is only complete once its line is terminated
+            int end = content.lastIndexOf('\n');
+            for (String record : content.substring(0, end + 1).split("\n")) {
+                if (record.isEmpty()) {
+                    continue;
+                }
+                onChange.accept(readRecord(record));
+                hasUncompactedChanges = true;
+            }
+        }
+    }
+
+    private static DataChange readRecord(String record) throws DataConversionException {
+        try {
+            return JsonUtil.fromJsonString(record, JsonAdaptedDataChange.class).toModelType();
+        } catch (IOException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Opens the journal for appending.
+     */
+    public void open() throws IOException {
+        writer = openSegment(currentSegment);
+    }
+
+    /**
+     * Journals {@code changes}, in order, and writes them to the journal before returning.
+     */
+    public void recordChanges(List<DataChange> changes) throws IOException {
+        requireNonNull(changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        for (DataChange change : changes) {
+            append(JsonUtil.toJsonLine(new JsonAdaptedDataChange(change)));
+        }
+        writer.flush();
+        hasUncompactedChanges = true;
+    }
+
+    /**
+     * Returns true if the journal has grown past the compaction threshold and is not being compacted.
+     */
+    public boolean isCompactionDue() {
+        return uncompactedSize >= compactionThreshold && (lastCompaction == null || lastCompaction.isDone());
+    }
+
+    /**
+     * Returns true if changes have been journaled since the data files were last written.
+     */
+    public boolean hasUncompactedChanges() {
+        return hasUncompactedChanges;
+    }
+
+    /**
+     * Starts a new segment and writes a copy of the given data to the data files in the background.
+     * The data must be the result of every change journaled so far.
+     */
+    public void compact(ReadOnlyAddressBook addressBook, ReadOnlyCalendar calendar, ReadOnlyTagTree tagTree,
+            ReadOnlyReminders reminders) throws IOException {
+        AddressBookSnapshot addressBookCopy = new AddressBookSnapshot(addressBook);
+        CalendarSnapshot calendarCopy = new CalendarSnapshot(calendar);
+        TagTreeImpl tagTreeCopy = new TagTreeImpl(tagTree);
+        RemindersImpl remindersCopy = new RemindersImpl(reminders);
+
+        writer.close();
+        currentSegment++;
+        writer = openSegment(currentSegment);
+        uncompactedSize = 0;
+        hasUncompactedChanges = false;
+
+        int segment = currentSegment;
+        lastCompaction = compactor.submit(() ->
+                installSnapshot(segment, addressBookCopy, calendarCopy, tagTreeCopy, remindersCopy));
+    }
+
+    /**
+     * Waits for any compaction in progress to finish.
+     */
+    public void flush() throws IOException {
+        try {
+            compactor.submit(() -> {}).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compacting the journal", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+    }
+
+    /**
+     * Waits for any compaction in progress to finish and closes the journal.
+     */
+    public void close() throws IOException {
+        flush();
+        compactor.shutdown();
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    // ================ Compaction ==============================
+
+    /**
+     * Writes the given data to the data files, and deletes the segments before {@code segment}.
+     * Runs on the background compactor thread.
+     */
+    private void installSnapshot(int segment, ReadOnlyAddressBook addressBook, ReadOnlyCalendar calendar,
+            ReadOnlyTagTree tagTree, ReadOnlyReminders reminders) {
+        try {
+            storage.saveAddressBook(addressBook, getSnapshotPath(storage.getAddressBookFilePath()));
+            storage.saveCalendar(calendar, getSnapshotPath(storage.getCalendarFilePath()));
+            storage.saveTagTree(tagTree, getSnapshotPath(storage.getTagTreeFilePath()));
+            storage.saveReminders(reminders, getSnapshotPath(storage.getRemindersFilePath()));
+
+            // from here on, recovery completes the compaction if it is interrupted
+            writeCheckpoint(CHECKPOINT_INSTALLING_PREFIX + segment);
+            installSnapshotFiles();
+            writeCheckpoint(String.valueOf(segment));
+            deleteSegmentsBefore(segment);
+            logger.info("Compacted journal into data files up to segment " + segment);
+        } catch (IOException ioe) {
+            // the journal still holds every change, so nothing is lost
+            logger.warning("Failed to compact journal " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    /**
+     * Replaces each data file with its written snapshot, if there is one.
+     */
+    private void installSnapshotFiles() throws IOException {
+        for (Path dataFile : getDataFilePaths()) {
+            Path snapshot = getSnapshotPath(dataFile);
+            if (Files.exists(snapshot)) {
+                Files.move(snapshot, dataFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+    }
+
+    private List<Path> getDataFilePaths() {
+        return List.of(storage.getAddressBookFilePath(), storage.getCalendarFilePath(),
+                storage.getTagTreeFilePath(), storage.getRemindersFilePath());
+    }
+
+    private Path getSnapshotPath(Path dataFile) {
+        return dataFile.resolveSibling(dataFile.getFileName() + SNAPSHOT_SUFFIX);
+    }
+
+    // ================ Files ==============================
+
+    private String readCheckpoint() throws IOException {
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE_NAME);
+        return Files.exists(checkpoint) ? new String(Files.readAllBytes(checkpoint), UTF_8).trim() : "";
+    }
+
+    private void writeCheckpoint(String content) throws IOException {
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE_NAME);
+        Path temporary = directory.resolve(CHECKPOINT_FILE_NAME + TEMPORARY_SUFFIX);
+        Files.write(temporary, content.getBytes(UTF_8));
+        Files.move(temporary, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path getSegmentPath(int segment) {
+        return directory.resolve(SEGMENT_PREFIX + segment + SEGMENT_SUFFIX);
+    }
+
+    /**
+     * Returns the numbers of the segments in the journal from the first segment onwards, in ascending order.
+     */
+    private List<Integer> getSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(CommandJournal::getSegmentNumber)
+                    .filter(segment -> segment >= firstSegment)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private void deleteSegmentsBefore(int segment) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                int segmentNumber = getSegmentNumber(file);
+                if (segmentNumber != NOT_A_SEGMENT && segmentNumber < segment) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of the segment stored in {@code file}, or {@code NOT_A_SEGMENT} if it is not a segment.
+     */
+    private static int getSegmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.matches(SEGMENT_PREFIX + "\\d+" + SEGMENT_SUFFIX)) {
+            return NOT_A_SEGMENT;
+        }
+        return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Removes a record left incomplete at the end of {@code segment}, so that new records are not appended to it.
+     */
+    private void truncateIncompleteRecord(Path segment) throws IOException {
+        if (!Files.exists(segment)) {
+            return;
+        }
+        byte[] content = Files.readAllBytes(segment);
+        int length = content.length;
+        while (length > 0 && content[length - 1] != '\n') {
+            length--;
+        }
+        if (length < content.length) {
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.truncate(length);
+            }
+            uncompactedSize -= content.length - length;
+        }
+    }
+
+    private BufferedWriter openSegment(int segment) throws IOException {
+        return Files.newBufferedWriter(getSegmentPath(segment), UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private void append(String record) throws IOException {
+        writer.write(record);
+        writer.write('\n');
+        uncompactedSize += record.getBytes(UTF_8).length + 1;
+    }
+
+}
@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyCalendar;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.reminder.ReadOnlyReminders;
+import seedu.address.model.tag.ReadOnlyTagTree;
+
+/**
+ * Chooses the format of each data file from its file extension.
+ * Data files ending in {@value #BINARY_FILE_EXTENSION} are stored in the binary format, and all others as json.
+ */
+public class DataFileFormat {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+    public static final String JSON_FILE_EXTENSION = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileFormat.class);
+
+    /**
+     * Returns true if the data file at {@code filePath} is stored in the binary format.
+     */
+    public static boolean isBinary(Path filePath) {
+        return filePath.getFileName().toString().endsWith(BINARY_FILE_EXTENSION);
+    }
+
+    public static AddressBookStorage createAddressBookStorage(Path filePath) {
+        return isBinary(filePath) ? new BinaryAddressBookStorage(filePath) : new JsonAddressBookStorage(filePath);
+    }
+
+    public static CalendarStorage createCalendarStorage(Path filePath) {
+        return isBinary(filePath) ? new BinaryCalendarStorage(filePath) : new JsonCalendarStorage(filePath);
+    }
+
+    public static TagTreeStorage createTagTreeStorage(Path filePath) {
+        return isBinary(filePath) ? new BinaryTagTreeStorage(filePath) : new JsonTagTreeStorage(filePath);
+    }
+
+    public static RemindersStorage createRemindersStorage(Path filePath) {
+        return isBinary(filePath) ? new BinaryRemindersStorage(filePath) : new JsonRemindersStorage(filePath);
+    }
+
+    /**
+     * Converts the json data files of the binary data files in {@code userPrefs} into the binary format.
+     * The json data file of a binary data file is the file of the same name with the {@value #JSON_FILE_EXTENSION}
+     * extension. Only binary data files that do not exist yet are converted, so this only converts each file once,
+     * and the json data files are left as they are.
+     *
+     * @throws DataConversionException if a json data file is not in the correct format.
+     */
+    public static void convertJsonDataFiles(ReadOnlyUserPrefs userPrefs) throws DataConversionException, IOException {
+        requireNonNull(userPrefs);
+
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        if (isConversionNeeded(addressBookFilePath)) {
+            Optional<ReadOnlyAddressBook> addressBook =
+                    new JsonAddressBookStorage(getJsonFilePath(addressBookFilePath)).readAddressBook();
+            if (addressBook.isPresent()) {
+                new BinaryAddressBookStorage(addressBookFilePath).saveAddressBook(addressBook.get());
+            }
+        }
+
+        Path calendarFilePath = userPrefs.getCalendarFilePath();
+        if (isConversionNeeded(calendarFilePath)) {
+            Optional<ReadOnlyCalendar> calendar =
+                    new JsonCalendarStorage(getJsonFilePath(calendarFilePath)).readCalendar();
+            if (calendar.isPresent()) {
+                new BinaryCalendarStorage(calendarFilePath).saveCalendar(calendar.get());
+            }
+        }
+
+        Path tagTreeFilePath = userPrefs.getTagTreeFilePath();
+        if (isConversionNeeded(tagTreeFilePath)) {
+            Optional<ReadOnlyTagTree> tagTree =
+                    new JsonTagTreeStorage(getJsonFilePath(tagTreeFilePath)).readTagTree();
+            if (tagTree.isPresent()) {
+                new BinaryTagTreeStorage(tagTreeFilePath).saveTagTree(tagTree.get());
+            }
+        }
+
+        Path remindersFilePath = userPrefs.getRemindersFilePath();
+        if (isConversionNeeded(remindersFilePath)) {
+            Optional<ReadOnlyReminders> reminders =
+                    new JsonRemindersStorage(getJsonFilePath(remindersFilePath)).readReminders();
+            if (reminders.isPresent()) {
+                new BinaryRemindersStorage(remindersFilePath).saveReminders(reminders.get());
+            }
+        }
+    }
+
+    private static boolean isConversionNeeded(Path filePath) {
+        if (!isBinary(filePath) || Files.exists(filePath) || !Files.exists(getJsonFilePath(filePath))) {
+            return false;
+        }
+        logger.info("Converting " + getJsonFilePath(filePath) + " into " + filePath);
+        return true;
+    }
+
+    /**
+     * Returns the path of the json data file with the same name as the binary data file at {@code filePath}.
+     */
+    static Path getJsonFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        String baseName = fileName.substring(0, fileName.length() - BINARY_FILE_EXTENSION.length());
+        return filePath.resolveSibling(baseName + JSON_FILE_EXTENSION);
+    }
+
+}
@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.DataChange;
+
+/**
+ * Jackson-friendly version of {@link DataChange}. Only the field of the data that was changed is set.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedDataChange {
+
+    public static final String MISSING_CHANGE_MESSAGE = "Data change does not change any data!";
+
+    private final JsonAdaptedListEdit<JsonAdaptedPerson> persons;
+    private final JsonAdaptedListEdit<JsonAdaptedEvent> events;
+    private final JsonAdaptedListEdit<JsonAdaptedReminder> reminders;
+    private final JsonAdaptedTagTreeEdit tagTree;
+
+    /**
+     * Constructs a {@code JsonAdaptedDataChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedDataChange(@JsonProperty("persons") JsonAdaptedListEdit<JsonAdaptedPerson> persons,
+            @JsonProperty("events") JsonAdaptedListEdit<JsonAdaptedEvent> events,
+            @JsonProperty("reminders") JsonAdaptedListEdit<JsonAdaptedReminder> reminders,
+            @JsonProperty("tagTree") JsonAdaptedTagTreeEdit tagTree) {
+        this.persons = persons;
+        this.events = events;
+        this.reminders = reminders;
+        this.tagTree = tagTree;
+    }
+
+    /**
+     * Converts a given {@code DataChange} into this class for Jackson use.
+     */
+    public JsonAdaptedDataChange(DataChange source) {
+        persons = source.getPersonEdit().map(edit -> new JsonAdaptedListEdit<>(edit, JsonAdaptedPerson::new))
+                .orElse(null);
+        events = source.getEventEdit().map(edit -> new JsonAdaptedListEdit<>(edit, JsonAdaptedEvent::new))
+                .orElse(null);
+        reminders = source.getReminderEdit().map(edit -> new JsonAdaptedListEdit<>(edit, JsonAdaptedReminder::new))
+                .orElse(null);
+        tagTree = source.getTagTreeEdit().map(JsonAdaptedTagTreeEdit::new).orElse(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change into the model's {@code DataChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public DataChange toModelType() throws IllegalValueException {
+        if (persons != null) {
+            return DataChange.ofPersons(persons.toModelType(JsonAdaptedPerson::toModelType));
+        }
+        if (events != null) {
+            return DataChange.ofEvents(events.toModelType(JsonAdaptedEvent::toModelType));
+        }
+        if (reminders != null) {
+            return DataChange.ofReminders(reminders.toModelType(JsonAdaptedReminder::toModelType));
+        }
+        if (tagTree != null) {
+            return DataChange.ofTagTree(tagTree.toModelType());
+        }
+        throw new IllegalValueException(MISSING_CHANGE_MESSAGE);
+    }
+
+}
@@ -74,10 +74,8 @@ class JsonAdaptedEvent {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Time.class.getSimpleName()));
         }
-        if (!Time.isValidTime(time)) {
-            throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
-        }
-        final Time modelTime = new Time(time);
+        final Time modelTime = Time.tryParse(time)
+                .orElseThrow(() -> new IllegalValueException(Time.MESSAGE_CONSTRAINTS));
 
         // associatedPersons
         final List<FauxPerson> attendees = new ArrayList<>();
@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.util.ListEdit;
+
+/**
+ * Jackson-friendly version of {@link ListEdit}, whose elements are stored as Jackson-friendly {@code T}.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+class JsonAdaptedListEdit<T> {
+
+    public static final String INVALID_INDEX_MESSAGE = "List edit's index is negative!";
+
+    private final int index;
+    private final List<T> removed = new ArrayList<>();
+    private final List<T> added = new ArrayList<>();
+    private final int[] order;
+
+    /**
+     * Constructs a {@code JsonAdaptedListEdit} with the given edit details.
+     */
+    @JsonCreator
+    public JsonAdaptedListEdit(@JsonProperty("index") int index, @JsonProperty("removed") List<T> removed,
+            @JsonProperty("added") List<T> added, @JsonProperty("order") int[] order) {
+        this.index = index;
+        if (removed != null) {
+            this.removed.addAll(removed);
+        }
+        if (added != null) {
+            this.added.addAll(added);
+        }
+        this.order = order;
+    }
+
+    /**
+     * Converts a given {@code ListEdit} into this class for Jackson use, adapting its elements with {@code adapter}.
+     */
+    public <E> JsonAdaptedListEdit(ListEdit<E> source, Function<E, T> adapter) {
+        if (source.isReorder()) {
+            index = 0;
+            order = source.getOrder();
+            return;
+        }
+
+        index = source.getIndex();
+        source.getRemoved().forEach(element -> removed.add(adapter.apply(element)));
+        source.getAdded().forEach(element -> added.add(adapter.apply(element)));
+        order = null;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted edit into the model's {@code ListEdit} object, converting its elements
+     * with {@code converter}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted edit.
+     */
+    public <E> ListEdit<E> toModelType(ElementConverter<T, E> converter) throws IllegalValueException {
+        if (order != null) {
+            return ListEdit.reorder(order);
+        }
+        if (index < 0) {
+            throw new IllegalValueException(INVALID_INDEX_MESSAGE);
+        }
+
+        List<E> modelRemoved = new ArrayList<>();
+        for (T element : removed) {
+            modelRemoved.add(converter.toModelType(element));
+        }
+        List<E> modelAdded = new ArrayList<>();
+        for (T element : added) {
+            modelAdded.add(converter.toModelType(element));
+        }
+        return ListEdit.splice(index, modelRemoved, modelAdded);
+    }
+
+    /**
+     * Converts a Jackson-friendly element of an edit into the model's type.
+     */
+    @FunctionalInterface
+    interface ElementConverter<T, E> {
+        E toModelType(T element) throws IllegalValueException;
+    }
+
+}
@@ -64,20 +64,16 @@ class JsonAdaptedReminder {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Time.class.getSimpleName()));
         }
-        if (!Time.isValidTime(eventTime)) {
-            throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
-        }
-        final Time modelTime = new Time(eventTime);
+        final Time modelTime = Time.tryParse(eventTime)
+                .orElseThrow(() -> new IllegalValueException(Time.MESSAGE_CONSTRAINTS));
         final Event modelEvent = new Event(modelDescription, modelTime, new HashSet<>());
 
         if (startDateOfReminders == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     "Starting date of reminders"));
         }
-        if (!Time.isValidTime(startDateOfReminders)) {
-            throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
-        }
-        final String modelStartDate = startDateOfReminders;
+        final Time modelStartDate = Time.tryParse(startDateOfReminders)
+                .orElseThrow(() -> new IllegalValueException(Time.MESSAGE_CONSTRAINTS));
 
         return new Reminder(modelEvent, modelStartDate);
     }
@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.tag.TagTreeEdit;
+
+/**
+ * Jackson-friendly version of {@link TagTreeEdit}.
+ */
+class JsonAdaptedTagTreeEdit {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Tag tree edit's %s field is missing!";
+
+    private final boolean isAddition;
+    private final JsonAdaptedTag superTag;
+    private final JsonAdaptedTag subTag;
+
+    /**
+     * Constructs a {@code JsonAdaptedTagTreeEdit} with the given edit details.
+     */
+    @JsonCreator
+    public JsonAdaptedTagTreeEdit(@JsonProperty("isAddition") boolean isAddition,
+            @JsonProperty("superTag") JsonAdaptedTag superTag, @JsonProperty("subTag") JsonAdaptedTag subTag) {
+        this.isAddition = isAddition;
+        this.superTag = superTag;
+        this.subTag = subTag;
+    }
+
+    /**
+     * Converts a given {@code TagTreeEdit} into this class for Jackson use.
+     */
+    public JsonAdaptedTagTreeEdit(TagTreeEdit source) {
+        isAddition = source.isAddition();
+        superTag = new JsonAdaptedTag(source.getSuperTag());
+        subTag = new JsonAdaptedTag(source.getSubTag());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted edit into the model's {@code TagTreeEdit} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted edit.
+     */
+    public TagTreeEdit toModelType() throws IllegalValueException {
+        if (superTag == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "superTag"));
+        }
+        if (subTag == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "subTag"));
+        }
+        return isAddition
+                ? TagTreeEdit.addSubTag(superTag.toModelType(), subTag.toModelType())
+                : TagTreeEdit.removeSubTag(superTag.toModelType(), subTag.toModelType());
+    }
+
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,7 +12,6 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.reminder.ReadOnlyReminders;
 
 /**
@@ -45,14 +45,16 @@ public class JsonRemindersStorage implements RemindersStorage {
     public Optional<ReadOnlyReminders> readReminders(Path filePath) throws DataConversionException, IOException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableReminders> jsonReminders = JsonUtil.readJsonFile(
-                filePath, JsonSerializableReminders.class);
-        if (!jsonReminders.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonReminders.get().toModelType());
+            return Optional.of(JsonSerializableReminders.readModelType(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -74,7 +76,7 @@ public class JsonRemindersStorage implements RemindersStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableReminders(reminders), filePath);
+        JsonSerializableReminders.save(reminders, filePath);
     }
 
 }
@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -9,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -21,13 +24,15 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    private static final String PERSONS_FIELD = "persons";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty(PERSONS_FIELD) List<JsonAdaptedPerson> persons) {
         this.persons.addAll(persons);
     }
 
@@ -48,13 +53,41 @@ class JsonSerializableAddressBook {
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            addPersonTo(addressBook, jsonAdaptedPerson);
         }
         return addressBook;
     }
 
+    /**
+     * Reads the address book in the given json file into the model's {@code AddressBook} object,
+     * converting one person at a time as it is read instead of reading the whole file first.
+     *
+     * @throws IOException if the file cannot be read or is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(Path filePath) throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        JsonUtil.readJsonArrayFile(filePath, PERSONS_FIELD, JsonAdaptedPerson.class,
+                jsonAdaptedPerson -> addPersonTo(addressBook, jsonAdaptedPerson));
+        return addressBook;
+    }
+
+    /**
+     * Saves the given {@code ReadOnlyAddressBook} to the given json file in the same format as this class,
+     * converting one person at a time as it is written.
+     */
+    public static void save(ReadOnlyAddressBook source, Path filePath) throws IOException {
+        JsonUtil.saveJsonArrayFile(filePath, PERSONS_FIELD,
+                source.getPersonList().stream().map(JsonAdaptedPerson::new).iterator());
+    }
+
+    private static void addPersonTo(AddressBook addressBook,
+            JsonAdaptedPerson jsonAdaptedPerson) throws IllegalValueException {
+        Person person = jsonAdaptedPerson.toModelType();
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
+    }
+
 }
@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -9,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.Calendar;
 import seedu.address.model.ReadOnlyCalendar;
 import seedu.address.model.event.Event;
@@ -22,13 +25,15 @@ class JsonSerializableCalendar {
 
     public static final String MESSAGE_DUPLICATE_EVENT = "Events list contains duplicate event(s).";
 
+    private static final String EVENTS_FIELD = "events";
+
     private final List<JsonAdaptedEvent> events = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableCalendar} with the given events.
      */
     @JsonCreator
-    public JsonSerializableCalendar(@JsonProperty("events") List<JsonAdaptedEvent> events) {
+    public JsonSerializableCalendar(@JsonProperty(EVENTS_FIELD) List<JsonAdaptedEvent> events) {
         this.events.addAll(events);
     }
 
@@ -49,13 +54,41 @@ class JsonSerializableCalendar {
     public Calendar toModelType() throws IllegalValueException {
         Calendar calendar = new Calendar();
         for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
-            if (calendar.hasEvent(event)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
-            }
-            calendar.addEvent(event);
+            addEventTo(calendar, jsonAdaptedEvent);
         }
         return calendar;
     }
 
+    /**
+     * Reads the calendar in the given json file into the model's {@code Calendar} object,
+     * converting one event at a time as it is read instead of reading the whole file first.
+     *
+     * @throws IOException if the file cannot be read or is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Calendar readModelType(Path filePath) throws IOException, IllegalValueException {
+        Calendar calendar = new Calendar();
+        JsonUtil.readJsonArrayFile(filePath, EVENTS_FIELD, JsonAdaptedEvent.class,
+                jsonAdaptedEvent -> addEventTo(calendar, jsonAdaptedEvent));
+        return calendar;
+    }
+
+    /**
+     * Saves the given {@code ReadOnlyCalendar} to the given json file in the same format as this class,
+     * converting one event at a time as it is written.
+     */
+    public static void save(ReadOnlyCalendar source, Path filePath) throws IOException {
+        JsonUtil.saveJsonArrayFile(filePath, EVENTS_FIELD,
+                source.getEventList().stream().map(JsonAdaptedEvent::new).iterator());
+    }
+
+    private static void addEventTo(Calendar calendar,
+            JsonAdaptedEvent jsonAdaptedEvent) throws IllegalValueException {
+        Event event = jsonAdaptedEvent.toModelType();
+        if (calendar.hasEvent(event)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
+        }
+        calendar.addEvent(event);
+    }
+
 }
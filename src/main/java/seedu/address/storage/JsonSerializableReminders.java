@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -9,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.RemindersImpl;
 import seedu.address.model.reminder.ReadOnlyReminders;
 import seedu.address.model.reminder.Reminder;
@@ -22,13 +25,15 @@ class JsonSerializableReminders {
 
     public static final String MESSAGE_DUPLICATE_EVENT = "Reminders list contains duplicate reminder(s).";
 
+    private static final String REMINDERS_FIELD = "reminders";
+
     private final List<JsonAdaptedReminder> reminders = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableReminders} with the given events.
      */
     @JsonCreator
-    public JsonSerializableReminders(@JsonProperty("reminders") List<JsonAdaptedReminder> reminders) {
+    public JsonSerializableReminders(@JsonProperty(REMINDERS_FIELD) List<JsonAdaptedReminder> reminders) {
         this.reminders.addAll(reminders);
     }
 
@@ -49,13 +54,41 @@ class JsonSerializableReminders {
     public RemindersImpl toModelType() throws IllegalValueException {
         RemindersImpl remindersImpl = new RemindersImpl();
         for (JsonAdaptedReminder jsonAdaptedReminder : reminders) {
-            Reminder reminder = jsonAdaptedReminder.toModelType();
-            if (remindersImpl.hasReminder(reminder)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
-            }
-            remindersImpl.addReminder(reminder);
+            addReminderTo(remindersImpl, jsonAdaptedReminder);
         }
         return remindersImpl;
     }
 
+    /**
+     * Reads the reminders in the given json file into the model's {@code RemindersImpl} object,
+     * converting one reminder at a time as it is read instead of reading the whole file first.
+     *
+     * @throws IOException if the file cannot be read or is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static RemindersImpl readModelType(Path filePath) throws IOException, IllegalValueException {
+        RemindersImpl remindersImpl = new RemindersImpl();
+        JsonUtil.readJsonArrayFile(filePath, REMINDERS_FIELD, JsonAdaptedReminder.class,
+                jsonAdaptedReminder -> addReminderTo(remindersImpl, jsonAdaptedReminder));
+        return remindersImpl;
+    }
+
+    /**
+     * Saves the given {@code ReadOnlyReminders} to the given json file in the same format as this class,
+     * converting one reminder at a time as it is written.
+     */
+    public static void save(ReadOnlyReminders source, Path filePath) throws IOException {
+        JsonUtil.saveJsonArrayFile(filePath, REMINDERS_FIELD,
+                source.getRemindersList().stream().map(JsonAdaptedReminder::new).iterator());
+    }
+
+    private static void addReminderTo(RemindersImpl remindersImpl,
+            JsonAdaptedReminder jsonAdaptedReminder) throws IllegalValueException {
+        Reminder reminder = jsonAdaptedReminder.toModelType();
+        if (remindersImpl.hasReminder(reminder)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
+        }
+        remindersImpl.addReminder(reminder);
+    }
+
 }
@@ -0,0 +1,48 @@
+package seedu.address.storage;
+
+import seedu.address.model.ChangeTrackable;
+
+/**
+ * Remembers the component last written to a data file and its modification count at that time.
+ */
+class SaveRecord {
+    static final long UNTRACKED = -1;
+
+    private Object lastSaved;
+    private long lastSavedModificationCount = UNTRACKED;
+
+    /**
+     * Returns the modification count of {@code component}, or {@code UNTRACKED} if its changes are not tracked.
+     */
+    static long getModificationCount(Object component) {
+        return component instanceof ChangeTrackable
+                ? ((ChangeTrackable) component).getModificationCount()
+                : UNTRACKED;
+    }
+
+    /**
+     * Returns true if {@code component} is known to be unchanged since it was last saved.
+     */
+    boolean isUpToDate(Object component) {
+        long modificationCount = getModificationCount(component);
+        return component == lastSaved
+                && modificationCount != UNTRACKED
+                && modificationCount == lastSavedModificationCount;
+    }
+
+    /**
+     * Records that {@code component} was saved when its modification count was {@code modificationCount}.
+     */
+    void update(Object component, long modificationCount) {
+        lastSaved = component;
+        lastSavedModificationCount = modificationCount;
+    }
+
+    /**
+     * Forgets the last saved component, so that the next save is always written.
+     */
+    void clear() {
+        lastSaved = null;
+        lastSavedModificationCount = UNTRACKED;
+    }
+}
@@ -59,4 +59,12 @@ public interface Storage extends AddressBookStorage, CalendarStorage,
 
     @Override
     void saveTagTree(ReadOnlyTagTree tagTree) throws IOException;
+
+    /**
+     * Writes any saved data that has not been written to its data file yet.
+     * Does nothing for storages that write data files as soon as they are saved.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    default void flush() throws IOException {}
 }
@@ -16,6 +16,8 @@ import seedu.address.model.tag.ReadOnlyTagTree;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Components that are {@code ChangeTrackable} are only written to their default files if they have changed since
+ * they were last saved there.
  */
 public class StorageManager implements Storage {
 
@@ -26,6 +28,12 @@ public class StorageManager implements Storage {
     private TagTreeStorage tagTreeStorage;
     private RemindersStorage remindersStorage;
 
+    // Components last written to their default files, used to skip writing data that has not changed since.
+    private final SaveRecord addressBookSaveRecord = new SaveRecord();
+    private final SaveRecord calendarSaveRecord = new SaveRecord();
+    private final SaveRecord tagTreeSaveRecord = new SaveRecord();
+    private final SaveRecord remindersSaveRecord = new SaveRecord();
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -80,7 +88,13 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        if (addressBookSaveRecord.isUpToDate(addressBook)) {
+            logger.fine("AddressBook unchanged since last save, skipping write");
+            return;
+        }
+        long modificationCount = SaveRecord.getModificationCount(addressBook);
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        addressBookSaveRecord.update(addressBook, modificationCount);
     }
 
     @Override
@@ -94,7 +108,7 @@ public class StorageManager implements Storage {
 
     @Override
     public Path getCalendarFilePath() {
-        return addressBookStorage.getAddressBookFilePath();
+        return calendarStorage.getCalendarFilePath();
     }
 
     @Override
@@ -110,7 +124,13 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveCalendar(ReadOnlyCalendar calendar) throws IOException {
+        if (calendarSaveRecord.isUpToDate(calendar)) {
+            logger.fine("Calendar unchanged since last save, skipping write");
+            return;
+        }
+        long modificationCount = SaveRecord.getModificationCount(calendar);
         saveCalendar(calendar, calendarStorage.getCalendarFilePath());
+        calendarSaveRecord.update(calendar, modificationCount);
     }
 
     @Override
@@ -140,7 +160,13 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveTagTree(ReadOnlyTagTree tagTree) throws IOException {
+        if (tagTreeSaveRecord.isUpToDate(tagTree)) {
+            logger.fine("TagTree unchanged since last save, skipping write");
+            return;
+        }
+        long modificationCount = SaveRecord.getModificationCount(tagTree);
         saveTagTree(tagTree, tagTreeStorage.getTagTreeFilePath());
+        tagTreeSaveRecord.update(tagTree, modificationCount);
     }
 
     @Override
@@ -169,7 +195,13 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveReminders(ReadOnlyReminders reminders) throws IOException {
+        if (remindersSaveRecord.isUpToDate(reminders)) {
+            logger.fine("Reminders unchanged since last save, skipping write");
+            return;
+        }
+        long modificationCount = SaveRecord.getModificationCount(reminders);
         saveReminders(reminders, remindersStorage.getRemindersFilePath());
+        remindersSaveRecord.update(reminders, modificationCount);
     }
 
     @Override
@@ -175,6 +175,19 @@ public class MainWindow extends UiPart<Stage> {
         reminderWindow.show();
     }
 
+    /**
+     * Shows the reminders that are due in the reminder window, or brings the window to the front with the
+     * reminders due listed again if it is already open.
+     */
+    void showRemindersDue() {
+        if (!reminderWindow.isShowing()) {
+            reminderWindow.show();
+        } else {
+            reminderWindow.refresh();
+            reminderWindow.focus();
+        }
+    }
+
     void show() {
         primaryStage.show();
     }
@@ -0,0 +1,125 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.reminder.ReadOnlyReminders;
+import seedu.address.model.reminder.Reminder;
+
+/**
+ * Notifies a listener whenever reminders become due, by sleeping on a timer thread until the start of the next day
+ * on which a reminder is due. The next day is looked up again whenever the reminders change.
+ * The reminders are only read on the thread that modifies them, which the timer hands each check over to, so
+ * the timer thread never touches the reminders itself.
+ */
+public class ReminderScheduler {
+
+    /*
+     * The longest the timer sleeps before checking again. The timer measures elapsed time, which does not advance
+     * while the computer is suspended and does not follow changes to the system clock, so it wakes up regularly to
+     * notice that the date has moved on. Waking up a few times a day costs nothing noticeable.
+     */
+    private static final Duration MAX_SLEEP = Duration.ofHours(1);
+
+    private static final Logger logger = LogsCenter.getLogger(ReminderScheduler.class);
+
+    private final ReadOnlyReminders reminders;
+    private final Executor remindersThread;
+    private final Clock clock;
+    private final Runnable onRemindersDue;
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "reminder-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Only accessed on the thread that modifies the reminders.
+    private LocalDate lastCheckedDate;
+    private ScheduledFuture<?> nextCheck;
+
+    /**
+     * Creates a {@code ReminderScheduler} for {@code reminders}, which are modified on the thread that
+     * {@code remindersThread} runs tasks on. {@code onRemindersDue} is also run on that thread.
+     */
+    public ReminderScheduler(ReadOnlyReminders reminders, Executor remindersThread, Clock clock,
+            Runnable onRemindersDue) {
+        requireNonNull(reminders);
+        requireNonNull(remindersThread);
+        requireNonNull(clock);
+        requireNonNull(onRemindersDue);
+        this.reminders = reminders;
+        this.remindersThread = remindersThread;
+        this.clock = clock;
+        this.onRemindersDue = onRemindersDue;
+    }
+
+    /**
+     * Starts waiting for reminders that become due after today.
+     * Must be called on the thread that modifies the reminders.
+     */
+    public void start() {
+        lastCheckedDate = LocalDate.now(clock);
+        reminders.getRemindersList().addListener((ListChangeListener<Reminder>) change -> scheduleNextCheck());
+        scheduleNextCheck();
+    }
+
+    /**
+     * Stops the timer. No more checks are made afterwards.
+     */
+    public void stop() {
+        timer.shutdownNow();
+    }
+
+    /**
+     * Notifies the listener if any reminder has become due since the last check, then waits for the next one.
+     */
+    void checkReminders() {
+        LocalDate today = LocalDate.now(clock);
+        boolean hasNewRemindersDue = reminders.getNextReminderDateAfter(lastCheckedDate)
+                .filter(date -> !date.isAfter(today))
+                .isPresent();
+        lastCheckedDate = today;
+        if (hasNewRemindersDue) {
+            logger.info("Reminders have become due");
+            onRemindersDue.run();
+        }
+        scheduleNextCheck();
+    }
+
+    private void scheduleNextCheck() {
+        if (nextCheck != null) {
+            nextCheck.cancel(false);
+            nextCheck = null;
+        }
+        if (timer.isShutdown()) {
+            return;
+        }
+
+        Optional<LocalDate> nextReminderDate = reminders.getNextReminderDateAfter(lastCheckedDate);
+        if (nextReminderDate.isEmpty()) {
+            // no reminder can become due before the next change, which should not count the days waited until then
+            lastCheckedDate = LocalDate.now(clock);
+            return;
+        }
+        Duration sleep = Duration.between(LocalDateTime.now(clock), nextReminderDate.get().atStartOfDay());
+        if (sleep.compareTo(MAX_SLEEP) > 0) {
+            sleep = MAX_SLEEP;
+        }
+        nextCheck = timer.schedule(() -> remindersThread.execute(this::checkReminders),
+                Math.max(0, sleep.toMillis()), TimeUnit.MILLISECONDS);
+    }
+
+}
@@ -1,9 +1,8 @@
 package seedu.address.ui;
 
-import java.time.LocalDate;
+import java.util.List;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import javafx.scene.control.Label;
 import javafx.stage.Stage;
 import seedu.address.commons.core.LogsCenter;
@@ -30,6 +29,13 @@ public class ReminderWindow extends UiPart<Stage> {
         this.logic = logic;
 
         reminderMessage.setWrapText(true);
+        refresh();
+    }
+
+    /**
+     * Lists the reminders that are due now.
+     */
+    public void refresh() {
         reminderMessage.setText(buildAlertMessage());
     }
 
@@ -53,10 +59,18 @@ public class ReminderWindow extends UiPart<Stage> {
      */
     public void show() {
         logger.fine("Showing upcoming reminders");
+        refresh();
         getRoot().show();
         getRoot().centerOnScreen();
     }
 
+    /**
+     * Returns true if the reminder window is currently being shown.
+     */
+    public boolean isShowing() {
+        return getRoot().isShowing();
+    }
+
     /**
      * Hides the reminder window.
      */
@@ -76,18 +90,14 @@ public class ReminderWindow extends UiPart<Stage> {
      */
     public String buildAlertMessage() {
         String alertMessage = "Here are your active reminders: \n";
-        ObservableList<Reminder> reminders = logic.getFilteredReminderList();
-        int count = 1;
-        if (reminders.size() == 0) {
+        List<Reminder> remindersDue = logic.getReminders().getRemindersDue();
+        if (remindersDue.isEmpty()) {
             return "You currently do not have any reminders";
-        } else {
-            for (Reminder r: reminders) {
-                if (r.getReminderDate().getTime().toLocalDate().isBefore(LocalDate.now())
-                        || r.getReminderDate().getTime().toLocalDate().isEqual(LocalDate.now())) {
-                    alertMessage += count + ". " + r.toString() + "\n";
-                    count++;
-                }
-            }
+        }
+        int count = 1;
+        for (Reminder r: remindersDue) {
+            alertMessage += count + ". " + r.toString() + "\n";
+            count++;
         }
         return alertMessage;
     }
@@ -1,6 +1,7 @@
 package seedu.address.ui;
 
 import java.io.File;
+import java.time.Clock;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -25,6 +26,7 @@ public class UiManager implements Ui {
 
     private Logic logic;
     private MainWindow mainWindow;
+    private ReminderScheduler reminderScheduler;
 
     /**
      * Creates a {@code UiManager} with the given {@code Logic}.
@@ -54,12 +56,22 @@ public class UiManager implements Ui {
             if (logic.getReminders().hasRemindersDue()) {
                 mainWindow.executeShowReminderCommand();
             }
+            reminderScheduler = new ReminderScheduler(logic.getReminders(), Platform::runLater,
+                    Clock.systemDefaultZone(), mainWindow::showRemindersDue);
+            reminderScheduler.start();
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
             showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
         }
     }
 
+    @Override
+    public void stop() {
+        if (reminderScheduler != null) {
+            reminderScheduler.stop();
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
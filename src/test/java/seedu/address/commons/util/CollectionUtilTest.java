@@ -9,6 +9,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
@@ -82,6 +83,30 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void hasUniqueKeys() {
+        Function<String, Character> firstLetter = word -> word.charAt(0);
+        Function<String, Integer> length = String::length;
+
+        // null arguments
+        assertThrows(NullPointerException.class, () -> CollectionUtil.hasUniqueKeys(null, firstLetter));
+
+        // no elements
+        assertTrue(CollectionUtil.hasUniqueKeys(Collections.<String>emptyList(), firstLetter));
+
+        // no extractors -> no element is ever a duplicate
+        assertTrue(CollectionUtil.hasUniqueKeys(Arrays.asList("apple", "apple")));
+
+        // unique under every extractor
+        assertTrue(CollectionUtil.hasUniqueKeys(Arrays.asList("apple", "bob", "cherry"), firstLetter, length));
+
+        // duplicate under the first extractor only
+        assertFalse(CollectionUtil.hasUniqueKeys(Arrays.asList("apple", "avocados"), firstLetter, length));
+
+        // duplicate under the second extractor only
+        assertFalse(CollectionUtil.hasUniqueKeys(Arrays.asList("apple", "mango"), firstLetter, length));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +125,27 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toCaseInsensitiveSortKey --------------------------------------
+
+    @Test
+    public void toCaseInsensitiveSortKey_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toCaseInsensitiveSortKey(null));
+    }
+
+    @Test
+    public void toCaseInsensitiveSortKey_ordersLikeCompareToIgnoreCase() {
+        List<String> strings = List.of("", "a", "A", "ab", "aB", "b", "Alice", "alice pauline", "Alice Pauline",
+                "_", "[", "z", "Z", "10th street", "1",
+                "\u00e9", "\u00c9", "\u0131", "I", "i", "\u03c3", "\u03a3", "\u03c2");
+        for (String first : strings) {
+            for (String second : strings) {
+                assertEquals(Integer.signum(first.compareToIgnoreCase(second)),
+                        Integer.signum(StringUtil.toCaseInsensitiveSortKey(first)
+                                .compareTo(StringUtil.toCaseInsensitiveSortKey(second))), first + " vs " + second);
+            }
+        }
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -11,8 +12,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -27,6 +30,9 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyCalendar;
 import seedu.address.model.person.Person;
+import seedu.address.model.reminder.ReadOnlyReminders;
+import seedu.address.storage.AsyncStorageManager;
+import seedu.address.storage.CommandJournal;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonCalendarStorage;
 import seedu.address.storage.JsonRemindersStorage;
@@ -43,6 +49,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManagerBuilder().build();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -54,7 +61,7 @@ public class LogicManagerTest {
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         JsonTagTreeStorage tagTreeStorage = new JsonTagTreeStorage(temporaryFolder.resolve("tagtree.json"));
         JsonRemindersStorage reminderStorage = new JsonRemindersStorage(temporaryFolder.resolve("reminders.json"));
-        StorageManager storage = new StorageManager(addressBookStorage,
+        storage = new StorageManager(addressBookStorage,
                 calendarStorage, userPrefsStorage, tagTreeStorage, reminderStorage);
         logic = new LogicManager(model, storage);
     }
@@ -105,6 +112,73 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_commandAndStorageFail_throwsCommandExceptionWithSaveFailureSuppressed() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonCalendarStorage(temporaryFolder.resolve("calendar.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonTagTreeStorage(temporaryFolder.resolve("tagtree.json")),
+                new JsonRemindersStorage(temporaryFolder.resolve("reminders.json"))));
+
+        // the failure of the command is reported, not the failure to save
+        CommandException thrown = Assertions.assertThrows(CommandException.class, () -> logic.execute("delete -c 9"));
+        assertEquals(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, thrown.getMessage());
+        assertEquals(1, thrown.getSuppressed().length);
+        assertEquals(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION, thrown.getSuppressed()[0].getMessage());
+    }
+
+    @Test
+    public void execute_backgroundWriteFailed_nextCommandThrowsCommandException() throws Exception {
+        // reminders are saved last, so their failed write is only reported by the next command
+        JsonRemindersStorage remindersStorage =
+                new JsonRemindersIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionReminders.json"));
+        StorageManager failingStorage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonCalendarStorage(temporaryFolder.resolve("calendar.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonTagTreeStorage(temporaryFolder.resolve("tagtree.json")), remindersStorage);
+        // writes run on the calling thread, so the failed write has finished when the command returns
+        logic = new LogicManager(model, new AsyncStorageManager(failingStorage, Runnable::run));
+
+        String addCommand = AddContactCommand.COMMAND_WORD + " " + AddContactCommand.COMMAND_TYPE + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+
+        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
+        ModelManager expectedModel = new ModelManagerBuilder().build();
+        expectedModel.addPerson(expectedPerson);
+        String listCommand = ListContactCommand.COMMAND_WORD + " " + ListContactCommand.COMMAND_TYPE;
+        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
+        assertCommandFailure(listCommand, CommandException.class, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_withJournal_journalsChangesInsteadOfSaving() throws Exception {
+        Path journalDirectory = temporaryFolder.resolve("journal");
+        CommandJournal journal = new CommandJournal(journalDirectory, storage);
+        journal.recover();
+        journal.open();
+        logic = new LogicManager(model, storage, journal);
+
+        String listCommand = ListContactCommand.COMMAND_WORD + " " + ListContactCommand.COMMAND_TYPE;
+        String addCommand = AddContactCommand.COMMAND_WORD + " " + AddContactCommand.COMMAND_TYPE + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.execute(listCommand);
+        logic.execute(addCommand);
+        logic.execute(listCommand);
+        journal.close();
+        assertFalse(Files.exists(storage.getAddressBookFilePath()));
+
+        // the changes are replayed without the commands that made them
+        Model replayedModel = new ModelManagerBuilder().build();
+        CommandJournal reopenedJournal = new CommandJournal(journalDirectory, storage);
+        reopenedJournal.recover();
+        reopenedJournal.replay(replayedModel::applyDataChange);
+        assertEquals(model.getAddressBook(), replayedModel.getAddressBook());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -190,4 +264,18 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class to throw an {@code IOException} when the save method is called.
+     */
+    private static class JsonRemindersIoExceptionThrowingStub extends JsonRemindersStorage {
+        private JsonRemindersIoExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveReminders(ReadOnlyReminders reminders, Path filePath) throws IOException {
+            throw DUMMY_IO_EXCEPTION;
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package seedu.address.logic.commands.contacts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.contacts.FindContactCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.testutil.ModelManagerBuilder;
+
+public class ContactQueryPlanTest {
+
+    private final Model model = new ModelManagerBuilder().withAddressBook(getTypicalAddressBook()).build();
+
+    @Test
+    public void of_severalIndexedFields_mostSelectiveIndexFirst() throws ParseException {
+        ContactQueryPlan plan = planFor(" p/9482 t/friends n/Meier");
+
+        assertEquals(Optional.of(Set.of()), plan.getCandidates());
+        assertEquals("Query plan:\n"
+                + "1. look up name postings [Meier]: 2 persons, 2 candidates left\n"
+                + "2. intersect tag bitmap [friends]: 3 persons, 2 candidates left\n"
+                + "3. intersect phone trigrams \"9482\": 3 persons, 0 candidates left\n"
+                + "4. check phone of 0 candidates", plan.explain());
+    }
+
+    @Test
+    public void of_fieldTooShortToLookUp_checkedOnCandidates() throws ParseException {
+        ContactQueryPlan plan = planFor(" n/Meier p/25");
+
+        assertEquals(Optional.of(Set.of(BENSON, DANIEL)), plan.getCandidates());
+        assertEquals("Query plan:\n"
+                + "1. look up name postings [Meier]: 2 persons, 2 candidates left\n"
+                + "2. check phone of 2 candidates", plan.explain());
+    }
+
+    @Test
+    public void of_noIndexedFields_checksAllPersons() throws ParseException {
+        ContactQueryPlan plan = planFor(" p/25 a/ St");
+
+        assertEquals(Optional.empty(), plan.getCandidates());
+        assertEquals("Query plan:\n1. check phone, address of all 7 persons", plan.explain());
+    }
+
+    private ContactQueryPlan planFor(String args) throws ParseException {
+        return ContactQueryPlan.of(new FindContactCommandParser().parse(args).getPredicate(), model);
+    }
+
+}
@@ -5,9 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
@@ -18,8 +22,14 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.contacts.FindContactCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Calendar;
 import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.RemindersImpl;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.person.ContactContainsFieldsPredicate;
+import seedu.address.model.person.ContactDetail;
+import seedu.address.model.tag.TagTreeImpl;
 import seedu.address.testutil.ModelManagerBuilder;
 
 /**
@@ -72,4 +82,80 @@ public class FindContactCommandTest {
         assertEquals(getTypicalPersons(), model.getSortedFilteredPersonList());
     }
 
+    @Test
+    public void execute_contactDetailSubstrings_matchingPersonsFound() throws ParseException {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FindContactCommand command = new FindContactCommandParser().parse(" p/9482");
+        expectedModel.updateFilteredPersonList(command.getPredicate());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, FIONA, GEORGE), model.getSortedFilteredPersonList());
+
+        // too short to be looked up
+        expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        command = new FindContactCommandParser().parse(" p/5 a/StReet");
+        expectedModel.updateFilteredPersonList(command.getPredicate());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, DANIEL), model.getSortedFilteredPersonList());
+
+        expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        command = new FindContactCommandParser().parse(" n/Meier e/@EXAMPLE.com p/9876");
+        expectedModel.updateFilteredPersonList(command.getPredicate());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON), model.getSortedFilteredPersonList());
+    }
+
+    @Test
+    public void execute_contactDetailsNotIndexed_samePersonsFound() throws ParseException {
+        UserPrefs userPrefs = new UserPrefs();
+        for (ContactDetail contactDetail : ContactDetail.values()) {
+            userPrefs.setContactDetailIndexed(contactDetail, false);
+        }
+        model = new ModelManager(getTypicalAddressBook(), new Calendar(), new TagTreeImpl(), userPrefs,
+                new RemindersImpl());
+        expectedModel.setUserPrefs(userPrefs);
+
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        FindContactCommand command = new FindContactCommandParser().parse(" n/Meier e/@EXAMPLE.com p/9876");
+        expectedModel.updateFilteredPersonList(command.getPredicate());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON), model.getSortedFilteredPersonList());
+    }
+
+    @Test
+    public void execute_multipleTags_personsWithAllTagsFound() throws ParseException {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FindContactCommand command = new FindContactCommandParser().parse(" t/friends");
+        expectedModel.updateFilteredPersonList(command.getPredicate());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getSortedFilteredPersonList());
+
+        expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        command = new FindContactCommandParser().parse(" t/friends t/owesMoney");
+        expectedModel.updateFilteredPersonList(command.getPredicate());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON), model.getSortedFilteredPersonList());
+
+        expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        command = new FindContactCommandParser().parse(" n/Daniel t/friends");
+        expectedModel.updateFilteredPersonList(command.getPredicate());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(DANIEL), model.getSortedFilteredPersonList());
+
+        expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        command = new FindContactCommandParser().parse(" t/friends t/nosuchtag");
+        expectedModel.updateFilteredPersonList(command.getPredicate());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getSortedFilteredPersonList());
+    }
+
+    @Test
+    public void execute_explain_queryPlanShown() throws ParseException {
+        FindContactCommand command = new FindContactCommandParser().parse(" n/Meier t/friends x/1");
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2) + "\n"
+                + ContactQueryPlan.of(command.getPredicate(), model).explain();
+        expectedModel.updateFilteredPersonList(command.getPredicate());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getSortedFilteredPersonList());
+    }
+
 }
@@ -1,18 +1,28 @@
 package seedu.address.logic.commands.contacts;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortKey;
+import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.ModelManagerBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 
 /**
@@ -29,14 +39,12 @@ public class PermaSortContactCommandTest {
         String expectedMessage = "Sorted by name in alphabetical order";
 
         ModelManager expectedModel = new ModelManagerBuilder().withAddressBook(model.getAddressBook()).build();
-        expectedModel.permaSortContacts(new Comparator<Person>() {
-            @Override
-            public int compare(Person o1, Person o2) {
-                return o1.getName().fullName.compareToIgnoreCase(o2.getName().fullName);
-            }
-        });
+        expectedModel.permaSortContacts(List.of(PersonSortKey.NAME));
 
         assertCommandSuccess(permaSortContactCommand, model, expectedMessage, expectedModel);
+        List<Person> expectedPersons = new ArrayList<>(getTypicalPersons());
+        expectedPersons.sort(Comparator.comparing(person -> person.getName().fullName, String::compareToIgnoreCase));
+        assertEquals(expectedPersons, model.getAddressBook().getPersonList());
     }
 
     @Test
@@ -46,4 +54,29 @@ public class PermaSortContactCommandTest {
         assertCommandFailure(permaSortContactCommand, model, PermaSortContactCommand.MESSAGE_INVALID_INDEX);
     }
 
+    @Test
+    public void execute_severalIndexes_sortedByEachFieldInTurn() throws CommandException {
+        Person carol = new PersonBuilder().withName("Carol").withAddress("Same Street").build();
+        Person alice = new PersonBuilder().withName("alice").withAddress("same street").build();
+        Person zed = new PersonBuilder().withName("Zed").withAddress("A Street").build();
+        Person bob = new PersonBuilder().withName("Bob").withAddress("Same Street").build();
+        model = new ModelManagerBuilder()
+                .withAddressBook(new AddressBookBuilder().withPerson(carol).withPerson(alice).withPerson(zed)
+                        .withPerson(bob).build())
+                .build();
+        List<Boolean> changesArePermutations = new ArrayList<>();
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changesArePermutations.add(change.wasPermutated());
+            }
+        });
+
+        CommandResult result = new PermaSortContactCommand(List.of(Index.fromOneBased(2), Index.fromOneBased(1)))
+                .execute(model);
+
+        assertEquals("Sorted by address, then name in alphabetical order", result.getFeedbackToUser());
+        assertEquals(List.of(zed, alice, bob, carol), model.getAddressBook().getPersonList());
+        // the sort is published as a single permutation
+        assertEquals(List.of(true), changesArePermutations);
+    }
 }
@@ -1,15 +1,28 @@
 package seedu.address.logic.commands.events;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_EVENTS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalEvents.GATHERING;
+import static seedu.address.testutil.TypicalEvents.LESSON;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalEvents.OUTING;
+import static seedu.address.testutil.TypicalEvents.WEBINAR;
 import static seedu.address.testutil.TypicalEvents.getTypicalCalendar;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.parser.events.FindEventCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.event.DescriptionContainsKeywordsPredicate;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.ModelManagerBuilder;
 
 /**
@@ -47,4 +60,40 @@ public class FindEventCommandTest {
         assertFalse(findFirstCommand.equals(findSecondCommand));
     }
 
+    @Test
+    public void execute_multipleKeywords_multipleEventsFound() throws ParseException {
+        String expectedMessage = String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 4);
+        FindEventCommand command = new FindEventCommandParser().parse(" meeting FAMILY");
+        expectedModel.updateFilteredEventList(command.getPredicate());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(MEETING, GATHERING, WEBINAR, OUTING), model.getSortedFilteredEventList());
+    }
+
+    @Test
+    public void execute_keywordsAndTimeRange_eventsInRangeFound() throws ParseException {
+        String expectedMessage = String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 2);
+        FindEventCommand command = new FindEventCommandParser().parse(" meeting FAMILY from/15-11-2020 02:00 "
+                + "to/15-11-2020 06:00");
+        expectedModel.updateFilteredEventList(command.getPredicate());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(GATHERING, WEBINAR), model.getSortedFilteredEventList());
+
+        // open-ended range
+        expectedMessage = String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 1);
+        command = new FindEventCommandParser().parse(" meeting to/01-11-2020 00:00");
+        expectedModel.updateFilteredEventList(command.getPredicate());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(MEETING), model.getSortedFilteredEventList());
+    }
+
+    @Test
+    public void execute_eventAddedAfterFind_filteredByPredicate() throws ParseException {
+        FindEventCommand command = new FindEventCommandParser().parse(" family");
+        command.execute(model);
+        Event reunion = new EventBuilder().withDescription("Family Reunion").build();
+        model.addEvent(reunion);
+        model.addEvent(LESSON);
+        assertEquals(Arrays.asList(GATHERING, OUTING, reunion), model.getSortedFilteredEventList());
+    }
+
 }
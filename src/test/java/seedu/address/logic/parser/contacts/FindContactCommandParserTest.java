@@ -2,6 +2,7 @@ package seedu.address.logic.parser.contacts;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPLAIN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
@@ -13,6 +14,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.booleaninput.BooleanInput;
 import seedu.address.logic.commands.contacts.FindContactCommand;
 import seedu.address.model.person.ContactContainsFieldsPredicate;
 import seedu.address.model.tag.Tag;
@@ -77,6 +79,19 @@ public class FindContactCommandParserTest {
         assertParseSuccess(parser, parseString, new FindContactCommand(predicate));
     }
 
+    @Test
+    public void parse_explainArg_returnsFindCommand() {
+        ContactContainsFieldsPredicate predicate = new ContactContainsFieldsPredicate();
+        predicate.setNameKeywords(List.of("Alice"));
+        assertParseSuccess(parser, " " + PREFIX_NAME + "Alice " + PREFIX_EXPLAIN + "true",
+                new FindContactCommand(predicate, BooleanInput.isTrue()));
+        assertParseSuccess(parser, " " + PREFIX_NAME + "Alice " + PREFIX_EXPLAIN + "0",
+                new FindContactCommand(predicate));
+
+        assertParseFailure(parser, " " + PREFIX_NAME + "Alice " + PREFIX_EXPLAIN + "yes",
+                BooleanInput.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_oneEmptyArg_throwsParseException() {
         assertParseFailure(parser, " n/", ContactContainsFieldsPredicate.NON_TAG_CONSTRAINTS);
@@ -4,12 +4,14 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.events.FindEventCommand;
 import seedu.address.model.event.DescriptionContainsKeywordsPredicate;
+import seedu.address.model.event.Time;
 
 public class FindEventCommandParserTest {
 
@@ -32,4 +34,28 @@ public class FindEventCommandParserTest {
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n CS2103 \n \t Meeting  \t", expectedFindEventCommand);
     }
+
+    @Test
+    public void parse_timeRange_returnsFindCommand() {
+        DescriptionContainsKeywordsPredicate predicate = new DescriptionContainsKeywordsPredicate();
+        predicate.setKeywords(Arrays.asList("standup"));
+        predicate.setTimeRange(LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.of(2020, 3, 31, 23, 59));
+        assertParseSuccess(parser, " standup from/01-01-2020 00:00 to/31-03-2020 23:59",
+                new FindEventCommand(predicate));
+
+        // only one end of the range
+        predicate = new DescriptionContainsKeywordsPredicate();
+        predicate.setKeywords(Arrays.asList("standup"));
+        predicate.setTimeRange(LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.MAX);
+        assertParseSuccess(parser, " standup from/01-01-2020 00:00", new FindEventCommand(predicate));
+    }
+
+    @Test
+    public void parse_invalidTimeRange_throwsParseException() {
+        // no keywords
+        assertParseFailure(parser, " from/01-01-2020 00:00",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindEventCommand.MESSAGE_USAGE));
+
+        assertParseFailure(parser, " standup to/January", Time.MESSAGE_CONSTRAINTS);
+    }
 }
@@ -17,12 +17,16 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.ContactDetail;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
@@ -48,6 +52,20 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void getModificationCount_personListChanged_countIncreases() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getModificationCount() > initialCount);
+
+        long countAfterAdd = addressBook.getModificationCount();
+        assertTrue(addressBook.hasPerson(ALICE));
+        assertEquals(countAfterAdd, addressBook.getModificationCount());
+
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getModificationCount() > countAfterAdd);
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields
@@ -93,6 +111,64 @@ public class AddressBookTest {
         assertTrue(new AddressBook().getPersonsWithTag(TAG_FRIENDS).isEmpty());
     }
 
+    @Test
+    public void getPersonsWithNameKeywords_anyKeywordMatches_matchingPersonsReturned() {
+        AddressBook addressBook = getTypicalAddressBook();
+        // ALICE is "Alice Pauline" and BENSON is "Benson Meier"
+        assertEquals(Set.of(ALICE, BENSON), addressBook.getPersonsWithNameKeywords(List.of("pAULINE", "Benson")));
+        assertTrue(addressBook.getPersonsWithNameKeywords(List.of("Paul", "Ben")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithNameKeywords_personsChanged_indexUpdated() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        addressBook.setPerson(ALICE, renamedAlice);
+        assertTrue(addressBook.getPersonsWithNameKeywords(List.of("Alice")).isEmpty());
+        assertEquals(Set.of(renamedAlice), addressBook.getPersonsWithNameKeywords(List.of("alicia")));
+
+        addressBook.removePerson(renamedAlice);
+        assertTrue(addressBook.getPersonsWithNameKeywords(List.of("Pauline")).isEmpty());
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Set.of(ALICE), addressBook.getPersonsWithNameKeywords(List.of("Alice")));
+    }
+
+    @Test
+    public void getPersonsPossiblyWithContactDetail_personsChanged_indexUpdated() {
+        AddressBook addressBook = new AddressBook();
+        assertEquals(0, addressBook.getContactDetailIndexMemoryUsage(ContactDetail.ADDRESS));
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        // ALICE lives at "123, Jurong West Ave 6, #08-111" and BENSON at "311, Clementi Ave 2, #02-25"
+        assertEquals(Optional.of(Set.of(ALICE, BENSON)),
+                addressBook.getPersonsPossiblyWithContactDetail(ContactDetail.ADDRESS, "aVE"));
+        assertEquals(Optional.of(Set.of(ALICE)),
+                addressBook.getPersonsPossiblyWithContactDetail(ContactDetail.ADDRESS, "jurong"));
+        assertEquals(Optional.empty(), addressBook.getPersonsPossiblyWithContactDetail(ContactDetail.ADDRESS, "av"));
+        assertTrue(addressBook.getContactDetailIndexMemoryUsage(ContactDetail.ADDRESS) > 0);
+
+        Person movedAlice = new PersonBuilder(ALICE).withAddress("1 Kent Ridge Road").build();
+        addressBook.setPerson(ALICE, movedAlice);
+        assertEquals(Optional.of(Set.of(BENSON)),
+                addressBook.getPersonsPossiblyWithContactDetail(ContactDetail.ADDRESS, "ave"));
+        assertEquals(Optional.of(Set.of(movedAlice)),
+                addressBook.getPersonsPossiblyWithContactDetail(ContactDetail.ADDRESS, "kent"));
+
+        addressBook.removePerson(movedAlice);
+        addressBook.removePerson(BENSON);
+        assertEquals(0, addressBook.getContactDetailIndexMemoryUsage(ContactDetail.ADDRESS));
+    }
+
+    @Test
+    public void getPersonsPossiblyWithContactDetail_contactDetailNotIndexed_emptyOptional() {
+        AddressBook addressBook = new AddressBook(getTypicalAddressBook(), EnumSet.of(ContactDetail.PHONE));
+        assertEquals(Optional.empty(), addressBook.getPersonsPossiblyWithContactDetail(ContactDetail.ADDRESS, "ave"));
+        assertEquals(0, addressBook.getContactDetailIndexMemoryUsage(ContactDetail.ADDRESS));
+        assertTrue(addressBook.getPersonsPossiblyWithContactDetail(ContactDetail.PHONE, "9482").isPresent());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -4,18 +4,23 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.DINNER;
+import static seedu.address.testutil.TypicalEvents.GATHERING;
 import static seedu.address.testutil.TypicalEvents.MEETING;
 import static seedu.address.testutil.TypicalEvents.PROJECT;
+import static seedu.address.testutil.TypicalEvents.SHOPPING;
 import static seedu.address.testutil.TypicalEvents.WEBINAR;
 import static seedu.address.testutil.TypicalEvents.getTypicalCalendar;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -105,6 +110,56 @@ public class CalendarTest {
         assertFalse(calendar.hasClashingEvent(WEBINAR));
     }
 
+    @Test
+    public void hasClashingEvent_clashingEventRemoved_returnsFalse() {
+        calendar.addEvent(PROJECT);
+        calendar.removeEvent(PROJECT);
+        Event toCheck = new EventBuilder(WEBINAR).withTime(PROJECT.getTime().toString()).build();
+        assertFalse(calendar.hasClashingEvent(toCheck));
+    }
+
+    @Test
+    public void getEventsBetween_eventsInCalendar_returnsEventsInRangeOrderedByTime() {
+        calendar.resetData(getTypicalCalendar());
+        LocalDateTime start = GATHERING.getTime().getTime();
+        LocalDateTime end = SHOPPING.getTime().getTime();
+        List<Event> expectedEvents = Arrays.asList(GATHERING, DINNER, SHOPPING);
+
+        assertEquals(expectedEvents, calendar.getEventsBetween(start, end));
+        assertEquals(expectedEvents, new CalendarStub(getTypicalCalendar().getEventList())
+                .getEventsBetween(start, end));
+        assertEquals(Collections.emptyList(), calendar.getEventsBetween(end, start));
+    }
+
+    @Test
+    public void getEventsWithDescriptionKeywords_keywordsAndTimeRange_matchingEventsReturned() {
+        calendar.resetData(getTypicalCalendar());
+        LocalDateTime start = GATHERING.getTime().getTime();
+        LocalDateTime end = SHOPPING.getTime().getTime();
+
+        assertEquals(Set.of(MEETING, WEBINAR, GATHERING), calendar.getEventsWithDescriptionKeywords(
+                List.of("mEETING", "Gathering"), LocalDateTime.MIN, LocalDateTime.MAX));
+        assertEquals(Set.of(GATHERING), calendar.getEventsWithDescriptionKeywords(
+                List.of("mEETING", "Gathering"), start, end));
+        assertTrue(calendar.getEventsWithDescriptionKeywords(List.of("Meet"), LocalDateTime.MIN, LocalDateTime.MAX)
+                .isEmpty());
+        assertTrue(calendar.getEventsWithDescriptionKeywords(List.of("Gathering"), end, start).isEmpty());
+    }
+
+    @Test
+    public void getEventsWithDescriptionKeywords_eventsChanged_indexUpdated() {
+        calendar.resetData(getTypicalCalendar());
+        Event renamedMeeting = new EventBuilder(MEETING).withDescription("CS2103 Standup").build();
+        calendar.setEvent(MEETING, renamedMeeting);
+        calendar.removeEvent(WEBINAR);
+        calendar.addEvent(PROJECT);
+
+        assertTrue(calendar.getEventsWithDescriptionKeywords(List.of("Meeting"), LocalDateTime.MIN, LocalDateTime.MAX)
+                .isEmpty());
+        assertEquals(Set.of(renamedMeeting, PROJECT), calendar.getEventsWithDescriptionKeywords(
+                List.of("standup", "discussion"), LocalDateTime.MIN, LocalDateTime.MAX));
+    }
+
     @Test
     public void deletePersonAssociation_personAssociated() {
         Event eventWithoutAlice = new EventBuilder().build();
@@ -132,6 +187,20 @@ public class CalendarTest {
         assertTrue(calendar.equals(expectedCalendar));
     }
 
+    @Test
+    public void deletePersonAssociations_personsAssociated() {
+        Event eventWithoutAttendees = new EventBuilder().withAttendees(Collections.emptySet()).build();
+        Calendar expectedCalendar = new Calendar();
+        expectedCalendar.addEvent(eventWithoutAttendees);
+
+        Event eventWithAliceAndBob = new EventBuilder()
+                .withAttendees(new AttendeesBuilder().withPerson(ALICE).withPerson(BOB).build()).build();
+        calendar.addEvent(eventWithAliceAndBob);
+        calendar.deletePersonAssociations(Arrays.asList(ALICE, BOB));
+
+        assertEquals(expectedCalendar, calendar);
+    }
+
     @Test
     public void setPersonAssociation_personAssociated() {
         Event eventWithBob = new EventBuilder()
@@ -7,6 +7,7 @@ import static seedu.address.testutil.TagTreeUtil.TAG_COMPUTING;
 import static seedu.address.testutil.TagTreeUtil.TAG_CS1231S;
 import static seedu.address.testutil.TagTreeUtil.TAG_CS2040S_NOT_TREE;
 import static seedu.address.testutil.TagTreeUtil.TAG_MA1101R;
+import static seedu.address.testutil.TagTreeUtil.TAG_NUS;
 import static seedu.address.testutil.TagTreeUtil.TAG_SCIENCE_COMP;
 import static seedu.address.testutil.TagTreeUtil.buildTestTree;
 
@@ -67,6 +68,69 @@ public class ContactTagIntegrationManagerTest {
         assertEquals(expectedSet3, manager.getAllPersonsUnderTag(TAG_MA1101R));
     }
 
+    @Test
+    public void getAllPersonsUnderTag_tagAboveDiamond_eachPersonReturnedOnce() {
+        // sciencecomp is below both computing and science, which are both below nus
+        assertEquals(Set.copyOf(TEST_PERSONS), buildTestContactTagIntegrationManager().getAllPersonsUnderTag(TAG_NUS));
+    }
+
+    @Test
+    public void getAllPersonsUnderTag_personsChanged_cachedPersonsUpdated() {
+        ContactTagIntegrationManager manager = buildTestContactTagIntegrationManager();
+        manager.getAllPersonsUnderTag(TAG_NUS);
+        manager.getAllPersonsUnderTag(TAG_SCIENCE_COMP);
+
+        Person newPerson = new PersonBuilder().withName("person8").withTags("ma1101r").build();
+        manager.getAddressBook().addPerson(newPerson);
+        assertTrue(manager.getAllPersonsUnderTag(TAG_NUS).contains(newPerson));
+        assertTrue(manager.getAllPersonsUnderTag(TAG_SCIENCE_COMP).contains(newPerson));
+
+        manager.deletePerson(PERSON_SCIENCECOMP);
+        assertFalse(manager.getAllPersonsUnderTag(TAG_NUS).contains(PERSON_SCIENCECOMP));
+        assertFalse(manager.getAllPersonsUnderTag(TAG_SCIENCE_COMP).contains(PERSON_SCIENCECOMP));
+    }
+
+    @Test
+    public void getAllPersonsUnderTag_personsChangedInBatch_cachedPersonsUpdated() {
+        ContactTagIntegrationManager manager = buildTestContactTagIntegrationManager();
+        manager.getAllPersonsUnderTag(TAG_NUS);
+
+        manager.getAddressBook().beginBatch();
+        Person newPerson = new PersonBuilder().withName("person8").withTags("ma1101r").build();
+        manager.getAddressBook().addPerson(newPerson);
+        assertTrue(manager.getAllPersonsUnderTag(TAG_NUS).contains(newPerson));
+
+        Person editedPerson = new PersonBuilder(PERSON_SCIENCECOMP).withTags("CS2040S").build();
+        manager.setPerson(PERSON_SCIENCECOMP, editedPerson);
+        assertFalse(manager.getAllPersonsUnderTag(TAG_NUS).contains(PERSON_SCIENCECOMP));
+        manager.getAddressBook().endBatch();
+    }
+
+    @Test
+    public void getAllPersonsUnderTag_tagTreeChanged_cachedPersonsUpdated() {
+        ContactTagIntegrationManager manager = buildTestContactTagIntegrationManager();
+        assertTrue(manager.getAllPersonsUnderTag(TAG_COMPUTING).contains(PERSON_MA1101R));
+
+        manager.getTagTree().removeSubTagFrom(TAG_COMPUTING, TAG_SCIENCE_COMP);
+        assertEquals(Set.of(PERSON_COMPUTING, PERSON_COMPUTING_SCIENCE), manager.getAllPersonsUnderTag(TAG_COMPUTING));
+        // still reachable through science
+        assertTrue(manager.getAllPersonsUnderTag(TAG_NUS).contains(PERSON_MA1101R));
+
+        Person newPerson = new PersonBuilder().withName("person8").withTags("newtag").build();
+        manager.getAddressBook().addPerson(newPerson);
+        manager.getAllPersonsUnderTag(TAG_MA1101R);
+        manager.getTagTree().addSubTagTo(TAG_MA1101R, newPerson.getTags().iterator().next());
+        assertEquals(Set.of(PERSON_MA1101R, newPerson), manager.getAllPersonsUnderTag(TAG_MA1101R));
+        assertTrue(manager.getAllPersonsUnderTag(TAG_NUS).contains(newPerson));
+    }
+
+    @Test
+    public void getAllPersonsUnderTag_returnedSetModified_cacheUnaffected() {
+        ContactTagIntegrationManager manager = buildTestContactTagIntegrationManager();
+        manager.getAllPersonsUnderTag(TAG_MA1101R).clear();
+        assertEquals(Set.of(PERSON_MA1101R), manager.getAllPersonsUnderTag(TAG_MA1101R));
+    }
+
     @Test
     public void getAllPersonsUnderTag_tagNotInTree_emptySetReturned() {
         assertTrue(buildTestContactTagIntegrationManager().getAllPersonsUnderTag(TAG_CS2040S_NOT_TREE).isEmpty());
@@ -11,13 +11,21 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.ContactContainsFieldsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortKey;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.PrecomputedPredicate;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.ModelManagerBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 // TODO: include/edit tests to include calendar and tagtree, split them into different methods if needed
 public class ModelManagerTest {
@@ -95,6 +103,104 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getSortedFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void applyDataChange_changesOfAnotherModel_sameData() {
+        ModelManager replica = new ModelManagerBuilder().build();
+        modelManager.addDataChangeListener(replica::applyDataChange);
+
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withTags("colleague").build());
+        modelManager.addSubTagTo(new Tag("colleague"), new Tag("friends"));
+        modelManager.permaSortContacts(List.of(PersonSortKey.NAME));
+        modelManager.deletePerson(BENSON);
+        modelManager.deleteTag(new Tag("friends"));
+
+        assertEquals(modelManager.getAddressBook(), replica.getAddressBook());
+        assertEquals(modelManager.getCalendar(), replica.getCalendar());
+        assertEquals(modelManager.getTagTree(), replica.getTagTree());
+        assertEquals(modelManager.getReminders(), replica.getReminders());
+    }
+
+    @Test
+    public void updateFilteredPersonList_largeList_filteredInParallel() {
+        AddressBook largeAddressBook = new AddressBook();
+        for (int i = 0; i < PrecomputedPredicate.PARALLEL_THRESHOLD; i++) {
+            largeAddressBook.addPerson(new PersonBuilder().withName("Person " + i)
+                    .withPhone(String.valueOf(80000000 + i)).withEmail("person" + i + "@example.com").build());
+        }
+        modelManager = new ModelManagerBuilder().withAddressBook(largeAddressBook).build();
+
+        modelManager.updateFilteredPersonList(person -> person.getName().fullName.endsWith("7"));
+        assertEquals(PrecomputedPredicate.PARALLEL_THRESHOLD / 10, modelManager.getSortedFilteredPersonList().size());
+
+        // persons edited afterwards are tested against the predicate itself
+        Person target = modelManager.getAddressBook().getPersonList().get(8);
+        Person editedPerson = new PersonBuilder(target).withName("Edited Person 7").build();
+        modelManager.setPerson(target, editedPerson);
+        assertEquals(PrecomputedPredicate.PARALLEL_THRESHOLD / 10 + 1,
+                modelManager.getSortedFilteredPersonList().size());
+        assertTrue(modelManager.getSortedFilteredPersonList().contains(editedPerson));
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(PrecomputedPredicate.PARALLEL_THRESHOLD, modelManager.getSortedFilteredPersonList().size());
+    }
+
+    @Test
+    public void batch_multipleChanges_listenersNotifiedOnce() {
+        AtomicInteger changeCount = new AtomicInteger();
+        modelManager.getAddressBook().getPersonList()
+                .addListener((ListChangeListener<Person>) change -> changeCount.incrementAndGet());
+
+        modelManager.batch(() -> {
+            modelManager.addPerson(ALICE);
+            modelManager.batch(() -> modelManager.addPerson(BENSON));
+            modelManager.deletePerson(ALICE);
+            assertEquals(0, changeCount.get());
+        });
+        assertEquals(1, changeCount.get());
+        assertEquals(List.of(BENSON), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void batch_changesThrowException_changesUndone() {
+        modelManager.addPerson(ALICE);
+        assertThrows(IllegalStateException.class, () -> modelManager.batch(() -> {
+            modelManager.addPerson(BENSON);
+            modelManager.deletePerson(ALICE);
+            throw new IllegalStateException();
+        }));
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+        assertTrue(modelManager.hasTag(ALICE.getTags().iterator().next()));
+
+        // the model is no longer in a batch
+        AtomicInteger changeCount = new AtomicInteger();
+        modelManager.getAddressBook().getPersonList()
+                .addListener((ListChangeListener<Person>) change -> changeCount.incrementAndGet());
+        modelManager.addPerson(BENSON);
+        assertEquals(1, changeCount.get());
+    }
+
+    @Test
+    public void batch_tagDeletionThrowsException_publishedChangesUndone() {
+        modelManager.addPerson(ALICE);
+        ModelManager replica = new ModelManagerBuilder().build();
+        replica.addPerson(ALICE);
+        modelManager.addDataChangeListener(replica::applyDataChange);
+
+        Tag tag = ALICE.getTags().iterator().next();
+        assertThrows(IllegalStateException.class, () -> modelManager.batch(() -> {
+            modelManager.deleteTag(tag);
+            throw new IllegalStateException();
+        }));
+        assertTrue(modelManager.hasTag(tag));
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+
+        // the undone changes are published, so listeners end up with the same data
+        assertEquals(modelManager.getAddressBook(), replica.getAddressBook());
+        assertTrue(replica.hasTag(tag));
+    }
+
     // TODO: edit this test case with calendar and tagTree
     @Test
     public void equals() {
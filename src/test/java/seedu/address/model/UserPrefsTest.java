@@ -1,9 +1,16 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.EnumSet;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.ContactDetail;
+
 public class UserPrefsTest {
 
     @Test
@@ -24,4 +31,16 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setTagTreeFilePath(null));
     }
 
+    @Test
+    public void setContactDetailIndexed_indexDisabled_disabledInCopy() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertEquals(EnumSet.allOf(ContactDetail.class), userPrefs.getIndexedContactDetails());
+
+        userPrefs.setContactDetailIndexed(ContactDetail.ADDRESS, false);
+        assertFalse(userPrefs.isContactDetailIndexed(ContactDetail.ADDRESS));
+        assertEquals(EnumSet.of(ContactDetail.PHONE, ContactDetail.EMAIL), userPrefs.getIndexedContactDetails());
+        assertEquals(userPrefs, new UserPrefs(userPrefs));
+        assertNotEquals(new UserPrefs(), userPrefs);
+    }
+
 }
@@ -3,6 +3,7 @@ package seedu.address.model.event;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -39,6 +40,10 @@ public class DescriptionContainsKeywordsPredicateTest {
 
         // different predicate -> returns false
         assertFalse(firstPredicate.equals(secondPredicate));
+
+        // different time range -> returns false
+        firstPredicateCopy.setTimeRange(LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.MAX);
+        assertFalse(firstPredicate.equals(firstPredicateCopy));
     }
 
     @Test
@@ -71,4 +76,21 @@ public class DescriptionContainsKeywordsPredicateTest {
         assertFalse(predicate.test(testEvent2.build()));
 
     }
+
+    @Test
+    public void test_eventOutsideTimeRange_returnsFalse() {
+        Event testEvent = new EventBuilder().withDescription("CS2103 Meeting").withTime("15-11-2020 12:00").build();
+
+        DescriptionContainsKeywordsPredicate predicate = new DescriptionContainsKeywordsPredicate();
+        predicate.setKeywords(List.of("meeting"));
+
+        // Inclusive range
+        predicate.setTimeRange(LocalDateTime.of(2020, 11, 15, 12, 0), LocalDateTime.of(2020, 11, 15, 12, 0));
+        assertTrue(predicate.test(testEvent));
+
+        predicate.setTimeRange(LocalDateTime.of(2020, 11, 15, 12, 1), LocalDateTime.MAX);
+        assertFalse(predicate.test(testEvent));
+        predicate.setTimeRange(LocalDateTime.MIN, LocalDateTime.of(2020, 11, 15, 11, 59));
+        assertFalse(predicate.test(testEvent));
+    }
 }
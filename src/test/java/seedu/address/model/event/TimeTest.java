@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 public class TimeTest {
@@ -35,6 +38,34 @@ public class TimeTest {
         assertTrue(Time.isValidTime("20-10-2020 14:00"));
     }
 
+    @Test
+    public void tryParse() {
+        // null time
+        assertThrows(NullPointerException.class, () -> Time.tryParse(null));
+
+        // invalid time
+        assertEquals(Optional.empty(), Time.tryParse("random"));
+        assertEquals(Optional.empty(), Time.tryParse("12-10-2020 10:60")); // minute out of range
+        assertEquals(Optional.empty(), Time.tryParse("1a-10-2020 10:00")); // not a digit
+
+        // storage format
+        assertEquals(Optional.of(new Time(LocalDateTime.of(2020, 10, 12, 10, 0))), Time.tryParse("12-10-2020 10:00"));
+        assertEquals(Optional.of(new Time(LocalDateTime.of(2020, 2, 29, 23, 59))), Time.tryParse("29-02-2020 23:59"));
+
+        // other formats and out of range values are resolved as before
+        assertEquals(Optional.of(new Time(LocalDateTime.of(2020, 10, 12, 10, 0))), Time.tryParse("2020-12-10 10:00"));
+        assertEquals(Optional.of(new Time(LocalDateTime.of(2020, 10, 2, 1, 5))), Time.tryParse("2/10/20 1:5"));
+        assertEquals(Optional.of(new Time(LocalDateTime.of(2020, 2, 29, 10, 0))), Time.tryParse("31-02-2020 10:00"));
+        assertEquals(Optional.of(new Time(LocalDateTime.of(2020, 10, 25, 0, 0))), Time.tryParse("24-10-2020 24:00"));
+    }
+
+    @Test
+    public void toString_parsedBack_sameTime() {
+        Time time = new Time(LocalDateTime.of(2020, 1, 2, 3, 4));
+        assertEquals("02-01-2020 03:04", time.toString());
+        assertEquals(time, new Time(time.toString()));
+    }
+
     @Test
     public void getDisplayNameTest() {
         Time time1 = new Time("11-12-1234 12:34");
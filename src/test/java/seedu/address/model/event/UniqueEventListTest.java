@@ -2,6 +2,8 @@ package seedu.address.model.event;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEvents.CONSULTATION;
@@ -9,6 +11,9 @@ import static seedu.address.testutil.TypicalEvents.DINNER;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -219,6 +224,116 @@ public class UniqueEventListTest {
         assertTrue(uniqueEventList.equals(expectedUniqueEventList));
     }
 
+    @Test
+    public void deleteFauxPerson_eventWithoutFauxPerson_eventNotReplaced() {
+        Event eventWithBob = new EventBuilder(CONSULTATION)
+                .withAttendees(new AttendeesBuilder().withPerson(BOB).build()).build();
+        Event eventWithAlice = new EventBuilder(DINNER)
+                .withAttendees(new AttendeesBuilder().withPerson(ALICE).build()).build();
+        uniqueEventList.add(eventWithBob);
+        uniqueEventList.add(eventWithAlice);
+        uniqueEventList.deleteFauxPerson(new FauxPerson(ALICE));
+
+        assertSame(eventWithBob, uniqueEventList.asUnmodifiableObservableList().get(0));
+        assertEquals(new EventBuilder(DINNER).withAttendees(Collections.emptySet()).build(),
+                uniqueEventList.asUnmodifiableObservableList().get(1));
+    }
+
+    @Test
+    public void deleteFauxPerson_eventRemoved_listUnchanged() {
+        Event eventWithAlice = new EventBuilder()
+                .withAttendees(new AttendeesBuilder().withPerson(ALICE).build()).build();
+        uniqueEventList.add(eventWithAlice);
+        uniqueEventList.remove(new Event(eventWithAlice));
+        uniqueEventList.deleteFauxPerson(new FauxPerson(ALICE));
+
+        assertEquals(new UniqueEventList(), uniqueEventList);
+    }
+
+    @Test
+    public void deleteFauxPersons_personsInSameEvent_removesAllPersons() {
+        Event eventWithAliceAndBob = new EventBuilder()
+                .withAttendees(new AttendeesBuilder().withPerson(ALICE).withPerson(BOB).build()).build();
+        uniqueEventList.add(eventWithAliceAndBob);
+        uniqueEventList.deleteFauxPersons(Arrays.asList(new FauxPerson(ALICE), new FauxPerson(BOB)));
+
+        UniqueEventList expectedUniqueEventList = new UniqueEventList();
+        expectedUniqueEventList.add(new EventBuilder().withAttendees(Collections.emptySet()).build());
+        assertEquals(expectedUniqueEventList, uniqueEventList);
+    }
+
+    @Test
+    public void setFauxPerson_afterEdit_followsEditedFauxPerson() {
+        Event eventWithAlice = new EventBuilder()
+                .withAttendees(new AttendeesBuilder().withPerson(ALICE).build()).build();
+        uniqueEventList.add(eventWithAlice);
+        uniqueEventList.setFauxPerson(new FauxPerson(ALICE), new FauxPerson(BOB));
+        uniqueEventList.deleteFauxPerson(new FauxPerson(BOB));
+
+        UniqueEventList expectedUniqueEventList = new UniqueEventList();
+        expectedUniqueEventList.add(new EventBuilder().withAttendees(Collections.emptySet()).build());
+        assertEquals(expectedUniqueEventList, uniqueEventList);
+    }
+
+    @Test
+    public void deleteFauxPersons_tenThousandEventsAndPersons_scalesLinearly() {
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+        List<Event> events = new ArrayList<>();
+        List<FauxPerson> fauxPersons = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            FauxPerson fauxPerson = new FauxPerson("Person " + i, i);
+            fauxPersons.add(fauxPerson);
+            events.add(new Event(new Description("Event " + i), new Time(start.plusMinutes(i)),
+                    Collections.singleton(fauxPerson)));
+        }
+        uniqueEventList.setEvents(events);
+
+        // visiting every event for every person needs a hundred million event copies and cannot finish in time
+        assertTimeout(Duration.ofSeconds(5), () -> uniqueEventList.deleteFauxPersons(fauxPersons));
+        assertTrue(uniqueEventList.asUnmodifiableObservableList().stream()
+                .allMatch(event -> event.getAssociatedPersons().isEmpty()));
+    }
+
+    @Test
+    public void anyClash_eventAtSameTimeInList_returnsTrue() {
+        uniqueEventList.add(CONSULTATION);
+        Event clashingEvent = new EventBuilder(DINNER).withTime(CONSULTATION.getTime().toString()).build();
+        assertTrue(uniqueEventList.anyClash(clashingEvent));
+        assertFalse(uniqueEventList.anyClash(DINNER));
+    }
+
+    @Test
+    public void getEventsBetween_afterEdits_reflectsCurrentEvents() {
+        uniqueEventList.add(CONSULTATION);
+        uniqueEventList.add(DINNER);
+        LocalDateTime start = CONSULTATION.getTime().getTime();
+        LocalDateTime end = DINNER.getTime().getTime();
+        assertEquals(Arrays.asList(CONSULTATION, DINNER), uniqueEventList.getEventsBetween(start, end));
+
+        Event editedDinner = new EventBuilder(DINNER).withTime("01-01-2021 12:00").build();
+        uniqueEventList.setEvent(DINNER, editedDinner);
+        assertEquals(Collections.singletonList(CONSULTATION), uniqueEventList.getEventsBetween(start, end));
+
+        uniqueEventList.remove(CONSULTATION);
+        assertEquals(Collections.emptyList(), uniqueEventList.getEventsBetween(start, end));
+    }
+
+    @Test
+    public void setEvents_listWithEventsSameOnlyByDescriptionAndTime_throwsDuplicateEventException() {
+        Event consultationWithBob = new EventBuilder(CONSULTATION)
+                .withAttendees(new AttendeesBuilder().withPerson(BOB).build()).build();
+        List<Event> listWithDuplicateEvents = Arrays.asList(CONSULTATION, consultationWithBob);
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvents(listWithDuplicateEvents));
+    }
+
+    @Test
+    public void setEvents_listWithSameDescriptionButDifferentTime_replacesOwnListWithProvidedList() {
+        Event consultationLater = new EventBuilder(CONSULTATION).withTime("01-01-2021 12:00").build();
+        List<Event> eventList = Arrays.asList(CONSULTATION, consultationLater);
+        uniqueEventList.setEvents(eventList);
+        assertEquals(eventList, uniqueEventList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> uniqueEventList
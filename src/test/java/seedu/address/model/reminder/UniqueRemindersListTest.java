@@ -0,0 +1,104 @@
+package seedu.address.model.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.CONSULTATION;
+import static seedu.address.testutil.TypicalEvents.DINNER;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.reminder.exceptions.DuplicateReminderException;
+import seedu.address.testutil.EventBuilder;
+
+public class UniqueRemindersListTest {
+
+    private final UniqueRemindersList uniqueRemindersList = new UniqueRemindersList();
+
+    @Test
+    public void contains_reminderForSameEventInList_returnsTrue() {
+        uniqueRemindersList.add(new Reminder(CONSULTATION, 1));
+        assertTrue(uniqueRemindersList.contains(new Reminder(CONSULTATION, 2)));
+        assertFalse(uniqueRemindersList.contains(new Reminder(DINNER, 1)));
+    }
+
+    @Test
+    public void setReminders_list_replacesOwnListWithProvidedList() {
+        uniqueRemindersList.add(new Reminder(CONSULTATION, 1));
+        List<Reminder> reminderList = Collections.singletonList(new Reminder(DINNER, 1));
+        uniqueRemindersList.setReminders(reminderList);
+        assertEquals(reminderList, uniqueRemindersList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setReminders_listWithRemindersForSameEvent_throwsDuplicateReminderException() {
+        List<Reminder> listWithDuplicateReminders = Arrays.asList(new Reminder(CONSULTATION, 1),
+                new Reminder(CONSULTATION, 2));
+        assertThrows(DuplicateReminderException.class, () ->
+                uniqueRemindersList.setReminders(listWithDuplicateReminders));
+    }
+
+    @Test
+    public void setReminders_listWithRemindersForEqualEvents_throwsDuplicateReminderException() {
+        Event consultationCopy = new EventBuilder(CONSULTATION).build();
+        List<Reminder> listWithDuplicateReminders = Arrays.asList(new Reminder(CONSULTATION, 1),
+                new Reminder(consultationCopy, 2));
+        assertThrows(DuplicateReminderException.class, () ->
+                uniqueRemindersList.setReminders(listWithDuplicateReminders));
+    }
+
+    @Test
+    public void getRemindersDue_date_returnsRemindersDueByThenInReminderDateOrder() {
+        Reminder consultationReminder = new Reminder(CONSULTATION, 1);
+        Reminder dinnerReminder = new Reminder(DINNER, 5);
+        Reminder meetingReminder = new Reminder(MEETING, 0);
+        uniqueRemindersList.setReminders(Arrays.asList(consultationReminder, dinnerReminder, meetingReminder));
+
+        assertFalse(uniqueRemindersList.hasRemindersDue(LocalDate.of(2020, 10, 11)));
+        assertEquals(List.of(), uniqueRemindersList.getRemindersDue(LocalDate.of(2020, 10, 11)));
+        assertTrue(uniqueRemindersList.hasRemindersDue(LocalDate.of(2020, 10, 12)));
+        assertEquals(List.of(meetingReminder, dinnerReminder),
+                uniqueRemindersList.getRemindersDue(LocalDate.of(2020, 11, 13)));
+        assertEquals(List.of(meetingReminder, dinnerReminder, consultationReminder),
+                uniqueRemindersList.getRemindersDue(LocalDate.of(2020, 11, 14)));
+    }
+
+    @Test
+    public void removeRemindersOfEventsBefore_time_removesOnlyRemindersOfEarlierEvents() {
+        Reminder dinnerReminder = new Reminder(DINNER, 5);
+        uniqueRemindersList.setReminders(Arrays.asList(new Reminder(CONSULTATION, 1), dinnerReminder,
+                new Reminder(MEETING, 0)));
+
+        uniqueRemindersList.removeRemindersOfEventsBefore(DINNER.getTime().getTime());
+
+        assertEquals(List.of(dinnerReminder), uniqueRemindersList.asUnmodifiableObservableList());
+        assertFalse(uniqueRemindersList.contains(new Reminder(CONSULTATION, 1)));
+        assertFalse(uniqueRemindersList.hasRemindersDue(LocalDate.of(2020, 11, 9)));
+    }
+
+    @Test
+    public void setReminder_editedReminder_indicesFollowEdit() {
+        Reminder consultationReminder = new Reminder(CONSULTATION, 1);
+        Reminder editedConsultationReminder = new Reminder(CONSULTATION, 3);
+        uniqueRemindersList.add(consultationReminder);
+
+        uniqueRemindersList.setReminder(consultationReminder, editedConsultationReminder);
+
+        assertEquals(Optional.of(editedConsultationReminder), uniqueRemindersList.getReminderOfEvent(CONSULTATION));
+        assertEquals(List.of(editedConsultationReminder),
+                uniqueRemindersList.getRemindersDue(LocalDate.of(2020, 11, 12)));
+
+        uniqueRemindersList.remove(editedConsultationReminder);
+        assertEquals(Optional.empty(), uniqueRemindersList.getReminderOfEvent(CONSULTATION));
+        assertFalse(uniqueRemindersList.hasRemindersDue(LocalDate.of(2020, 11, 14)));
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.GEORGE;
 
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -56,6 +57,30 @@ public class TagManagerImplTest {
 
     }
 
+    @Test
+    public void getPersonsWithAllTags_multipleTags_personsWithAllTagsReturned() {
+        TagManagerImpl tagManager = createNonEmptyTagManager();
+        assertEquals(Set.of(ALICE, BENSON), tagManager.getPersonsWithAllTags(List.of(TAG_FRIENDS)));
+        assertEquals(Set.of(BENSON), tagManager.getPersonsWithAllTags(List.of(TAG_FRIENDS, TAG_OWES_MONEY)));
+        assertTrue(tagManager.getPersonsWithAllTags(List.of(TAG_FRIENDS, TAG_NOT_FOUND)).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithAllTags_personsChanged_personsWithAllTagsUpdated() {
+        TagManagerImpl tagManager = createNonEmptyTagManager();
+        tagManager.deletePersonTags(BENSON);
+        assertTrue(tagManager.getPersonsWithAllTags(List.of(TAG_OWES_MONEY)).isEmpty());
+
+        // GEORGE takes the place of BENSON in the index
+        tagManager.addNewPersonTags(GEORGE);
+        tagManager.updateExistingPersonTags(ALICE, BENSON_EDITED);
+        assertEquals(Set.of(BENSON_EDITED, GEORGE), tagManager.getPersonsWithAllTags(List.of(TAG_MODULE)));
+        assertEquals(Set.of(BENSON_EDITED), tagManager.getPersonsWithAllTags(List.of(TAG_SCHOOL, TAG_FRIENDS)));
+
+        tagManager.clear();
+        assertTrue(tagManager.getPersonsWithAllTags(List.of(TAG_MODULE)).isEmpty());
+    }
+
     @Test
     public void addNewPerson_newTags_success() {
         // This relies on the fact that GEORGE's tag CS2103 is not inside the non-empty tag manager.
@@ -1,6 +1,7 @@
 package seedu.address.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -29,4 +30,32 @@ public class TagTest {
         assertEquals(new Tag("CS2103"), new Tag("cS2103"));
     }
 
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
+    }
+
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("CS 2103"));
+        // still invalid once rejected
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("CS 2103"));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("*"));
+    }
+
+    @Test
+    public void of_sameNameInAnyCase_sameInstanceReturned() {
+        Tag tag = Tag.of("CS2103");
+        assertSame(tag, Tag.of("CS2103"));
+        assertEquals(new Tag("cs2103"), tag);
+        assertSame(tag, Tag.of("cs2103"));
+        assertSame(tag, Tag.of("Cs2103"));
+    }
+
+    @Test
+    public void of_wildcard_allTagsTagReturned() {
+        assertSame(Tag.ALL_TAGS_TAG, Tag.of(Tag.ALL_TAGS_IDENTIFIER, true));
+        assertSame(Tag.of("CS2103"), Tag.of("CS2103", true));
+    }
+
 }
@@ -3,6 +3,7 @@ package seedu.address.model.tag;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TagTreeUtil.SET_FACULTIES;
 import static seedu.address.testutil.TagTreeUtil.SET_MODULES;
@@ -17,7 +18,10 @@ import static seedu.address.testutil.TagTreeUtil.TAG_SCIENCE;
 import static seedu.address.testutil.TagTreeUtil.TAG_SCIENCE_COMP;
 import static seedu.address.testutil.TagTreeUtil.buildTestTree;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -42,6 +46,41 @@ public class TagTreeImplTest {
         assertEquals(tagTree, buildTestTree());
     }
 
+    @Test
+    public void applyEdit_editsOfAnotherTree_sameTree() {
+        TagTreeImpl tagTree = buildTestTree();
+        TagTreeImpl replica = buildTestTree();
+        List<TagTreeEdit> edits = new ArrayList<>();
+        tagTree.addEditListener(edits::add);
+        tagTree.addEditListener(replica::applyEdit);
+
+        tagTree.deleteTag(TAG_COMPUTING);
+        tagTree.addSubTagTo(TAG_NUS, TAG_NOT_IN_TREE);
+        tagTree.copy(buildTestTree());
+        assertEquals(tagTree, replica);
+
+        // undoing every edit in reverse restores the original tree
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            replica.applyEdit(edits.get(i).invert());
+        }
+        assertEquals(buildTestTree(), replica);
+    }
+
+    @Test
+    public void getModificationCount_treeChanged_countIncreases() {
+        TagTreeImpl tagTree = buildTestTree();
+        long initialCount = tagTree.getModificationCount();
+        tagTree.getSubTagsRecursive(TAG_NUS);
+        assertEquals(initialCount, tagTree.getModificationCount());
+
+        tagTree.addSubTagTo(TAG_NUS, TAG_NOT_IN_TREE);
+        long countAfterAdd = tagTree.getModificationCount();
+        assertTrue(countAfterAdd > initialCount);
+
+        tagTree.deleteTag(TAG_NOT_IN_TREE);
+        assertTrue(tagTree.getModificationCount() > countAfterAdd);
+    }
+
     @Test
     public void getSubTagsOf_validTag_success() {
         assertEquals(buildTestTree().getSubTagsOf(TAG_NUS), SET_FACULTIES);
@@ -131,6 +170,46 @@ public class TagTreeImplTest {
         assertFalse(buildTestTree().isSubTagOf(TAG_COMPUTING, TAG_CS2040S_NOT_TREE));
     }
 
+    @Test
+    public void isSubTag_treeChangedAfterQuery_reflectsChange() {
+        TagTreeImpl testTree = buildTestTree();
+        assertTrue(testTree.isSubTagOf(TAG_NUS, TAG_CS1231S));
+        assertFalse(testTree.isSubTagOf(TAG_NUS, TAG_NOT_IN_TREE));
+
+        testTree.addSubTagTo(TAG_CS1231S, TAG_NOT_IN_TREE);
+        assertTrue(testTree.isSubTagOf(TAG_NUS, TAG_NOT_IN_TREE));
+
+        testTree.removeSubTagFrom(TAG_CS1231S, TAG_NOT_IN_TREE);
+        assertFalse(testTree.isSubTagOf(TAG_NUS, TAG_NOT_IN_TREE));
+
+        testTree.addSubTagTo(TAG_CS1231S, TAG_NOT_IN_TREE);
+        testTree.deleteTag(TAG_CS1231S);
+        assertFalse(testTree.isSubTagOf(TAG_NUS, TAG_CS1231S));
+        assertTrue(testTree.isSubTagOf(TAG_NUS, TAG_NOT_IN_TREE));
+    }
+
+    @Test
+    public void isSubTag_manyDiamonds_visitsSharedSubTagsOnce() {
+        // every tag on a level is a sub-tag of both tags on the level above, so there are 2^40 paths to the bottom
+        TagTreeImpl testTree = new TagTreeImpl();
+        Tag[] previousLevel = {new Tag("top")};
+        for (int level = 0; level < 40; level++) {
+            Tag[] currentLevel = {new Tag("left" + level), new Tag("right" + level)};
+            for (Tag superTag : previousLevel) {
+                testTree.addSubTagsTo(superTag, Set.of(currentLevel));
+            }
+            previousLevel = currentLevel;
+        }
+        Tag bottom = new Tag("bottom");
+        testTree.addSubTagTo(previousLevel[0], bottom);
+
+        TagTreeImpl copiedTree = new TagTreeImpl(testTree);
+        assertTimeout(Duration.ofSeconds(1), () -> assertTrue(copiedTree.isSubTagOf(new Tag("top"), bottom)));
+        assertTimeout(Duration.ofSeconds(1), () ->
+                assertEquals(81, copiedTree.getSubTagsRecursive(new Tag("top")).size()));
+        assertThrows(TagCyclicDependencyException.class, () -> copiedTree.addSubTagTo(bottom, new Tag("left0")));
+    }
+
 
 
 
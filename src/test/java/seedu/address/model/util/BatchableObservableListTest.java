@@ -0,0 +1,47 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class BatchableObservableListTest {
+
+    @Test
+    public void applyEdit_editsOfAnotherList_sameList() {
+        BatchableObservableList<String> list = new BatchableObservableList<>();
+        BatchableObservableList<String> replica = new BatchableObservableList<>();
+        List<ListEdit<String>> edits = new ArrayList<>();
+        list.addEditListener(edits::add);
+        list.addEditListener(replica::applyEdit);
+
+        list.setAll(List.of("c", "a", "d"));
+        list.add(1, "b");
+        list.set(0, "e");
+        list.remove("d");
+        list.sort(String::compareTo);
+        assertEquals(List.of("a", "b", "e"), list);
+        assertEquals(list, replica);
+        assertEquals(5, edits.size());
+
+        // undoing every edit in reverse restores the original list
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            replica.applyEdit(edits.get(i).invert());
+        }
+        assertEquals(List.of(), replica);
+    }
+
+    @Test
+    public void setAll_nonEmptyList_publishedAsOneEdit() {
+        BatchableObservableList<String> list = new BatchableObservableList<>();
+        list.setAll(List.of("a", "b"));
+        List<ListEdit<String>> edits = new ArrayList<>();
+        list.addEditListener(edits::add);
+
+        list.setAll(List.of("c"));
+        assertEquals(List.of(ListEdit.splice(0, List.of("a", "b"), List.of("c"))), edits);
+    }
+
+}
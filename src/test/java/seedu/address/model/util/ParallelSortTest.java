@@ -0,0 +1,36 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelSortTest {
+
+    private static final Function<String, String> FIRST_LETTER = element -> element.substring(0, 1);
+    private static final Function<String, String> SECOND_LETTER = element -> element.substring(1, 2);
+
+    @Test
+    public void sortOrder_emptyList_emptyOrder() {
+        assertArrayEquals(new int[0], ParallelSort.sortOrder(List.of(), List.of(FIRST_LETTER)));
+    }
+
+    @Test
+    public void sortOrder_severalKeys_laterKeysBreakTies() {
+        List<String> elements = List.of("bz1", "ay2", "bx3", "az4", "by5");
+        assertArrayEquals(new int[] {1, 3, 2, 4, 0}, ParallelSort.sortOrder(elements,
+                List.of(FIRST_LETTER, SECOND_LETTER)));
+        assertArrayEquals(new int[] {2, 1, 4, 3, 0}, ParallelSort.sortOrder(elements,
+                List.of(SECOND_LETTER, FIRST_LETTER)));
+    }
+
+    @Test
+    public void sortOrder_equalKeys_relativeOrderKept() {
+        List<String> elements = List.of("bz1", "ay2", "bx3", "az4", "by5");
+        assertArrayEquals(new int[] {1, 3, 0, 2, 4}, ParallelSort.sortOrder(elements, List.of(FIRST_LETTER)));
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4}, ParallelSort.sortOrder(elements, List.of()));
+    }
+
+}
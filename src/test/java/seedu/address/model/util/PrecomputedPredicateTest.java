@@ -0,0 +1,62 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class PrecomputedPredicateTest {
+
+    private final List<String> elements = IntStream.range(0, PrecomputedPredicate.PARALLEL_THRESHOLD)
+            .mapToObj(String::valueOf).collect(Collectors.toList());
+
+    @Test
+    public void evaluate_predicateEvaluatedOnceForEachElement() {
+        AtomicInteger evaluationCount = new AtomicInteger();
+        PrecomputedPredicate<String> predicate = PrecomputedPredicate.evaluate(element -> {
+            evaluationCount.incrementAndGet();
+            return element.endsWith("0");
+        }, elements);
+        assertEquals(PrecomputedPredicate.PARALLEL_THRESHOLD, evaluationCount.get());
+
+        assertEquals(PrecomputedPredicate.PARALLEL_THRESHOLD / 10, elements.stream().filter(predicate).count());
+        assertEquals(PrecomputedPredicate.PARALLEL_THRESHOLD, evaluationCount.get());
+    }
+
+    @Test
+    public void test_elementsNotEvaluated_matchedOnlyAfterStopUsingResults() {
+        Predicate<String> endsWithZero = element -> element.endsWith("0");
+        PrecomputedPredicate<String> predicate = PrecomputedPredicate.evaluate(endsWithZero, elements);
+
+        // the results are held by reference, so an equal string that was not evaluated does not match
+        String newElement = new String("10");
+        assertTrue(predicate.test(elements.get(10)));
+        assertFalse(predicate.test(newElement));
+
+        predicate.stopUsingResults();
+        assertTrue(predicate.test(newElement));
+        assertFalse(predicate.test("11"));
+    }
+
+    @Test
+    public void of_matchingElementsGiven_onlyThoseMatchedUntilStopUsingResults() {
+        Predicate<String> endsWithZero = element -> element.endsWith("0");
+        PrecomputedPredicate<String> predicate = PrecomputedPredicate.of(endsWithZero, Set.of("10"));
+
+        assertTrue(predicate.test("10"));
+        assertFalse(predicate.test("20"));
+
+        predicate.stopUsingResults();
+        assertTrue(predicate.test("20"));
+        assertFalse(predicate.test("21"));
+    }
+
+}
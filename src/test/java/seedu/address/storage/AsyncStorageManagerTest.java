@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.getTypicalCalendar;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Calendar;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncStorageManagerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonAddressBookStorage addressBookStorage;
+    private AsyncStorageManager asyncStorageManager;
+
+    @BeforeEach
+    public void setUp() {
+        addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab"));
+        asyncStorageManager = new AsyncStorageManager(createStorageManager(addressBookStorage));
+    }
+
+    private StorageManager createStorageManager(JsonAddressBookStorage addressBookStorage) {
+        return new StorageManager(addressBookStorage,
+                new JsonCalendarStorage(testFolder.resolve("calendar")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonTagTreeStorage(testFolder.resolve("tagtree")),
+                new JsonRemindersStorage(testFolder.resolve("reminders")));
+    }
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncStorageManager(null));
+    }
+
+    @Test
+    public void saveAddressBook_thenFlush_writesFile() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        asyncStorageManager.saveAddressBook(original);
+        asyncStorageManager.flush();
+
+        assertEquals(original, new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_modifiedAfterSave_writesLatestSave() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        asyncStorageManager.saveAddressBook(original);
+        original.addPerson(HOON);
+        asyncStorageManager.saveAddressBook(original);
+        original.removePerson(ALICE);
+        asyncStorageManager.saveAddressBook(original);
+
+        // reading through the storage waits for pending writes
+        assertEquals(original, new AddressBook(asyncStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveCalendar_unchangedSinceLastSave_skipsWrite() throws Exception {
+        Calendar calendar = getTypicalCalendar();
+        asyncStorageManager.saveCalendar(calendar);
+        asyncStorageManager.flush();
+        Files.delete(asyncStorageManager.getCalendarFilePath());
+
+        asyncStorageManager.saveCalendar(calendar);
+        asyncStorageManager.flush();
+        assertFalse(Files.exists(asyncStorageManager.getCalendarFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_reportedByFlushAndRetried() throws Exception {
+        AsyncStorageManager failingStorageManager = new AsyncStorageManager(createStorageManager(
+                new JsonAddressBookIoExceptionThrowingStub(testFolder.resolve("ioExceptionAddressBook.json"))));
+        AddressBook addressBook = getTypicalAddressBook();
+
+        // the failed write is not reported by the save, nor by saves of other components
+        failingStorageManager.saveAddressBook(addressBook);
+        failingStorageManager.saveCalendar(getTypicalCalendar());
+        assertThrows(IOException.class, failingStorageManager::flush);
+
+        // the unchanged address book is not saved again, but its failed copy is retried
+        failingStorageManager.saveAddressBook(addressBook);
+        assertThrows(IOException.class, failingStorageManager::flush);
+    }
+
+    /**
+     * A stub class to throw an {@code IOException} when the save method is called.
+     */
+    private static class JsonAddressBookIoExceptionThrowingStub extends JsonAddressBookStorage {
+        private JsonAddressBookIoExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            throw new IOException("dummy exception");
+        }
+    }
+
+}
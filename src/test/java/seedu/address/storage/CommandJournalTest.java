@@ -0,0 +1,176 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.getTypicalCalendar;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.DataChange;
+import seedu.address.model.RemindersImpl;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagTreeEdit;
+import seedu.address.model.tag.TagTreeImpl;
+import seedu.address.model.util.ListEdit;
+
+public class CommandJournalTest {
+
+    private static final DataChange ADD_ALICE = DataChange.ofPersons(ListEdit.splice(0, List.of(), List.of(ALICE)));
+    private static final DataChange REPLACE_ALICE =
+            DataChange.ofPersons(ListEdit.splice(0, List.of(ALICE), List.of(BOB)));
+    private static final DataChange ADD_SUB_TAG =
+            DataChange.ofTagTree(TagTreeEdit.addSubTag(new Tag("friends"), new Tag("colleagues")));
+
+    @TempDir
+    public Path testFolder;
+
+    private Path journalDirectory;
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        journalDirectory = testFolder.resolve("journal");
+        storage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonCalendarStorage(testFolder.resolve("calendar")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonTagTreeStorage(testFolder.resolve("tagtree")),
+                new JsonRemindersStorage(testFolder.resolve("reminders")));
+    }
+
+    /**
+     * Recovers a journal in the journal directory and returns the changes it replays.
+     */
+    private List<DataChange> replay() throws Exception {
+        CommandJournal journal = new CommandJournal(journalDirectory, storage);
+        journal.recover();
+        List<DataChange> changes = new ArrayList<>();
+        journal.replay(changes::add);
+        return changes;
+    }
+
+    private static String toRecord(DataChange change) throws Exception {
+        return JsonUtil.toJsonLine(new JsonAdaptedDataChange(change)) + "\n";
+    }
+
+    private CommandJournal openJournal(long compactionThreshold) throws Exception {
+        CommandJournal journal = new CommandJournal(journalDirectory, storage, compactionThreshold);
+        journal.recover();
+        journal.open();
+        return journal;
+    }
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CommandJournal(null, storage));
+        assertThrows(NullPointerException.class, () -> new CommandJournal(journalDirectory, null));
+    }
+
+    @Test
+    public void recordChanges_multipleSessions_replayedInOrder() throws Exception {
+        CommandJournal journal = openJournal(CommandJournal.DEFAULT_COMPACTION_THRESHOLD);
+        journal.recordChanges(List.of(ADD_ALICE, ADD_SUB_TAG));
+        journal.recordChanges(List.of());
+        journal.close();
+
+        journal = openJournal(CommandJournal.DEFAULT_COMPACTION_THRESHOLD);
+        journal.recordChanges(List.of(REPLACE_ALICE, DataChange.ofPersons(ListEdit.reorder(new int[] {0}))));
+        journal.close();
+
+        assertEquals(Arrays.asList(ADD_ALICE, ADD_SUB_TAG, REPLACE_ALICE,
+                DataChange.ofPersons(ListEdit.reorder(new int[] {0}))), replay());
+    }
+
+    @Test
+    public void recover_incompleteRecord_recordDiscarded() throws Exception {
+        Files.createDirectories(journalDirectory);
+        String incompleteRecord = toRecord(ADD_SUB_TAG).substring(0, 10);
+        Files.write(journalDirectory.resolve("journal-0.log"),
+                (toRecord(ADD_ALICE) + incompleteRecord).getBytes(UTF_8));
+
+        CommandJournal journal = openJournal(CommandJournal.DEFAULT_COMPACTION_THRESHOLD);
+        journal.recordChanges(List.of(REPLACE_ALICE));
+        journal.close();
+
+        assertEquals(Arrays.asList(ADD_ALICE, REPLACE_ALICE), replay());
+    }
+
+    @Test
+    public void replay_invalidRecord_throwsDataConversionException() throws Exception {
+        Files.createDirectories(journalDirectory);
+        Files.write(journalDirectory.resolve("journal-0.log"), "{\"persons\":{\"index\":-1}}\n".getBytes(UTF_8));
+
+        assertThrows(DataConversionException.class, this::replay);
+    }
+
+    @Test
+    public void compact_thresholdReached_writesDataFilesAndDropsCompactedChanges() throws Exception {
+        CommandJournal journal = openJournal(1);
+        journal.recordChanges(List.of(ADD_ALICE));
+        assertTrue(journal.isCompactionDue());
+        assertTrue(journal.hasUncompactedChanges());
+
+        AddressBook addressBook = getTypicalAddressBook();
+        journal.compact(addressBook, getTypicalCalendar(), new TagTreeImpl(), new RemindersImpl());
+        assertFalse(journal.hasUncompactedChanges());
+        journal.recordChanges(List.of(REPLACE_ALICE));
+        journal.close();
+
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(Arrays.asList(REPLACE_ALICE), replay());
+    }
+
+    @Test
+    public void recover_interruptedCompaction_completesCompaction() throws Exception {
+        Files.createDirectories(journalDirectory);
+        Files.write(journalDirectory.resolve("journal-0.log"), toRecord(ADD_ALICE).getBytes(UTF_8));
+        Files.write(journalDirectory.resolve("journal-1.log"), toRecord(REPLACE_ALICE).getBytes(UTF_8));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook, testFolder.resolve("ab.compacting"));
+        Files.write(journalDirectory.resolve("checkpoint"), "installing 1".getBytes(UTF_8));
+
+        assertEquals(Arrays.asList(REPLACE_ALICE), replay());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+        assertFalse(Files.exists(testFolder.resolve("ab.compacting")));
+        assertFalse(Files.exists(journalDirectory.resolve("journal-0.log")));
+    }
+
+    @Test
+    public void recover_compactionInterruptedBeforeCheckpoint_discardsSnapshot() throws Exception {
+        Files.createDirectories(journalDirectory);
+        Files.write(journalDirectory.resolve("journal-0.log"), toRecord(ADD_ALICE).getBytes(UTF_8));
+        storage.saveAddressBook(getTypicalAddressBook(), testFolder.resolve("ab.compacting"));
+
+        assertEquals(Arrays.asList(ADD_ALICE), replay());
+        assertFalse(Files.exists(testFolder.resolve("ab.compacting")));
+        assertFalse(Files.exists(storage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void reset_journalWithChanges_discardsChanges() throws Exception {
+        CommandJournal journal = openJournal(CommandJournal.DEFAULT_COMPACTION_THRESHOLD);
+        journal.recordChanges(List.of(ADD_ALICE));
+        journal.close();
+
+        CommandJournal resetJournal = new CommandJournal(journalDirectory, storage);
+        resetJournal.reset();
+        assertEquals(Arrays.asList(), replay());
+    }
+
+}
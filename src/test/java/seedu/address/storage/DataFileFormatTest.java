@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TagTreeUtil.buildTestTree;
+import static seedu.address.testutil.TypicalEvents.getTypicalCalendar;
+import static seedu.address.testutil.TypicalEvents.getTypicalEvents;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Calendar;
+import seedu.address.model.RemindersImpl;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.model.tag.TagTreeImpl;
+
+public class DataFileFormatTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private UserPrefs userPrefs;
+
+    @BeforeEach
+    public void setUp() {
+        userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(testFolder.resolve("addressbook.bin"));
+        userPrefs.setCalendarFilePath(testFolder.resolve("calendar.bin"));
+        userPrefs.setTagTreeFilePath(testFolder.resolve("tagtree.bin"));
+        userPrefs.setRemindersFilePath(testFolder.resolve("reminders.bin"));
+    }
+
+    @Test
+    public void createStorage_fileExtension_selectsFormat() {
+        assertTrue(DataFileFormat.createAddressBookStorage(testFolder.resolve("ab.bin"))
+                instanceof BinaryAddressBookStorage);
+        assertTrue(DataFileFormat.createAddressBookStorage(testFolder.resolve("ab.json"))
+                instanceof JsonAddressBookStorage);
+        assertTrue(DataFileFormat.createCalendarStorage(testFolder.resolve("calendar.bin"))
+                instanceof BinaryCalendarStorage);
+        assertTrue(DataFileFormat.createTagTreeStorage(testFolder.resolve("tagtree"))
+                instanceof JsonTagTreeStorage);
+        assertTrue(DataFileFormat.createRemindersStorage(testFolder.resolve("reminders.bin"))
+                instanceof BinaryRemindersStorage);
+    }
+
+    @Test
+    public void convertJsonDataFiles_jsonFilesOnly_convertsEveryFile() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Calendar calendar = getTypicalCalendar();
+        TagTreeImpl tagTree = buildTestTree();
+        RemindersImpl reminders = new RemindersImpl();
+        for (Event event : getTypicalEvents()) {
+            // reminders do not keep the persons associated with their events
+            reminders.addReminder(new Reminder(new Event(event.getDescription(), event.getTime(),
+                    Collections.emptySet()), 1));
+        }
+        new JsonAddressBookStorage(testFolder.resolve("addressbook.json")).saveAddressBook(addressBook);
+        new JsonCalendarStorage(testFolder.resolve("calendar.json")).saveCalendar(calendar);
+        new JsonTagTreeStorage(testFolder.resolve("tagtree.json")).saveTagTree(tagTree);
+        new JsonRemindersStorage(testFolder.resolve("reminders.json")).saveReminders(reminders);
+
+        DataFileFormat.convertJsonDataFiles(userPrefs);
+
+        assertEquals(addressBook, new AddressBook(new BinaryAddressBookStorage(
+                userPrefs.getAddressBookFilePath()).readAddressBook().get()));
+        assertEquals(calendar, new Calendar(new BinaryCalendarStorage(
+                userPrefs.getCalendarFilePath()).readCalendar().get()));
+        assertEquals(tagTree, new TagTreeImpl(new BinaryTagTreeStorage(
+                userPrefs.getTagTreeFilePath()).readTagTree().get()));
+        assertEquals(reminders, new RemindersImpl(new BinaryRemindersStorage(
+                userPrefs.getRemindersFilePath()).readReminders().get()));
+        assertTrue(Files.exists(testFolder.resolve("addressbook.json")));
+    }
+
+    @Test
+    public void convertJsonDataFiles_binaryFileExists_keepsBinaryFile() throws Exception {
+        new JsonAddressBookStorage(testFolder.resolve("addressbook.json")).saveAddressBook(getTypicalAddressBook());
+        new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath()).saveAddressBook(new AddressBook());
+
+        DataFileFormat.convertJsonDataFiles(userPrefs);
+
+        assertEquals(new AddressBook(), new AddressBook(new BinaryAddressBookStorage(
+                userPrefs.getAddressBookFilePath()).readAddressBook().get()));
+        assertFalse(Files.exists(userPrefs.getCalendarFilePath()));
+    }
+
+}
@@ -1,9 +1,13 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +18,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagTreeImpl;
 
 public class StorageManagerTest {
 
@@ -64,6 +70,44 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unchangedSinceLastSave_skipsWrite() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        storageManager.saveAddressBook(addressBook);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        // a different but equal address book is still written
+        storageManager.saveAddressBook(new AddressBook(addressBook));
+        assertTrue(Files.exists(storageManager.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_changedSinceLastSave_writes() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+
+        addressBook.addPerson(HOON);
+        storageManager.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveTagTree_unchangedSinceLastSave_skipsWrite() throws Exception {
+        TagTreeImpl tagTree = new TagTreeImpl();
+        storageManager.saveTagTree(tagTree);
+        Files.delete(storageManager.getTagTreeFilePath());
+
+        storageManager.saveTagTree(tagTree);
+        assertFalse(Files.exists(storageManager.getTagTreeFilePath()));
+
+        tagTree.addSubTagTo(new Tag("friends"), new Tag("colleagues"));
+        storageManager.saveTagTree(tagTree);
+        assertEquals(tagTree, new TagTreeImpl(storageManager.readTagTree().get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -1,18 +1,26 @@
 package seedu.address.testutil;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.DataChange;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyCalendar;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.ContactDetail;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortKey;
 import seedu.address.model.reminder.ReadOnlyReminders;
 import seedu.address.model.reminder.Reminder;
 import seedu.address.model.tag.ReadOnlyTagTree;
@@ -199,6 +207,21 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addDataChangeListener(Consumer<? super DataChange> listener) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void applyDataChange(DataChange change) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void batch(Runnable changes) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     public ObservableList<Person> getSortedFilteredPersonList() {
         throw new AssertionError("This method should not be called.");
     }
@@ -213,6 +236,27 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Set<Person> getPersonsWithAllTags(Collection<Tag> tags) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Person> getPersonsWithNameKeywords(Collection<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Set<Person>> getPersonsPossiblyWithContactDetail(ContactDetail contactDetail, String keyword) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Event> getEventsWithDescriptionKeywords(Collection<String> keywords, LocalDateTime start,
+            LocalDateTime end) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public Set<Tag> getPersonTags() {
         throw new AssertionError("This method should not be called.");
@@ -249,7 +293,7 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public void permaSortContacts(Comparator<Person> comparator) {
+    public void permaSortContacts(List<PersonSortKey> sortKeys) {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -0,0 +1,108 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.CONSULTATION;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.RemindersImpl;
+import seedu.address.model.reminder.Reminder;
+
+public class ReminderSchedulerTest {
+
+    // the reminder for CONSULTATION a day in advance is due on 14-11-2020
+    private final Reminder consultationReminder = new Reminder(CONSULTATION, 1);
+    private final RemindersImpl reminders = new RemindersImpl();
+    private final AtomicInteger notificationCount = new AtomicInteger();
+
+    @Test
+    public void checkReminders_reminderBecameDue_notifiesOnce() {
+        reminders.addReminder(consultationReminder);
+        SettableClock clock = new SettableClock(LocalDateTime.of(2020, 11, 10, 12, 0));
+        ReminderScheduler scheduler = new ReminderScheduler(reminders, Runnable::run, clock,
+                notificationCount::incrementAndGet);
+        scheduler.start();
+
+        clock.setTime(LocalDateTime.of(2020, 11, 13, 23, 59));
+        scheduler.checkReminders();
+        assertEquals(0, notificationCount.get());
+
+        clock.setTime(LocalDateTime.of(2020, 11, 14, 0, 0));
+        scheduler.checkReminders();
+        scheduler.checkReminders();
+        assertEquals(1, notificationCount.get());
+        scheduler.stop();
+    }
+
+    @Test
+    public void checkReminders_reminderAlreadyDueAtStart_doesNotNotify() {
+        reminders.addReminder(consultationReminder);
+        SettableClock clock = new SettableClock(LocalDateTime.of(2020, 11, 14, 9, 0));
+        ReminderScheduler scheduler = new ReminderScheduler(reminders, Runnable::run, clock,
+                notificationCount::incrementAndGet);
+        scheduler.start();
+
+        clock.setTime(LocalDateTime.of(2020, 11, 15, 0, 0));
+        scheduler.checkReminders();
+        assertEquals(0, notificationCount.get());
+        scheduler.stop();
+    }
+
+    @Test
+    public void start_reminderAddedShortlyBeforeItIsDue_timerNotifies() throws InterruptedException {
+        // a clock that reaches the day the reminder is due in a fraction of a second
+        LocalDateTime almostDue = LocalDateTime.of(2020, 11, 13, 23, 59, 59, 800_000_000);
+        Clock clock = Clock.offset(Clock.systemDefaultZone(),
+                Duration.between(LocalDateTime.now(), almostDue));
+        CountDownLatch notified = new CountDownLatch(1);
+        ReminderScheduler scheduler = new ReminderScheduler(reminders, Runnable::run, clock, notified::countDown);
+        scheduler.start();
+
+        // nothing is scheduled until the reminders change
+        reminders.addReminder(consultationReminder);
+
+        assertTrue(notified.await(5, TimeUnit.SECONDS));
+        scheduler.stop();
+    }
+
+    /**
+     * A clock in the default time zone whose time is set by the test.
+     */
+    private static class SettableClock extends Clock {
+        private Instant instant;
+
+        SettableClock(LocalDateTime time) {
+            setTime(time);
+        }
+
+        void setTime(LocalDateTime time) {
+            instant = time.atZone(getZone()).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+}